@@ -8,10 +8,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
+import com.br.ufu.scheduling.agmo.FitnessBound;
 import com.br.ufu.scheduling.agmo.Table;
 import com.br.ufu.scheduling.model.Chromosome;
+import com.br.ufu.scheduling.model.ConvergenceStop;
 import com.br.ufu.scheduling.model.DataForSpreadsheet;
+import com.br.ufu.scheduling.model.EvaluationBound;
 import com.br.ufu.scheduling.model.Graph;
+import com.br.ufu.scheduling.model.ScheduleEvaluator;
 import com.br.ufu.scheduling.utils.Configuration;
 import com.br.ufu.scheduling.utils.Constants;
 import com.br.ufu.scheduling.utils.Crossover;
@@ -30,9 +34,13 @@ public class AEMMD {
 	private Table table1ForDoubleTournament;
 	private Table table2ForDoubleTournament;
 
+	private EvaluationBound evaluationBound;
+	private FitnessBound fitnessBound;
+
 	private int initialPopulation;
 	private int generationAccumulated;
 	private int generationAccumulatedForApplyMutation;
+	private final ConvergenceStop convergenceStop = new ConvergenceStop();
 
 	public AEMMD(Configuration config, Graph graph, Random generator) throws Exception {
 		this.config = config;
@@ -138,7 +146,7 @@ public class AEMMD {
 	public void execute(long initialTime) throws Exception {
 		initialize();
 
-		while (generationAccumulated < config.getTotalGenerations()) {
+		while (generationAccumulated < config.getTotalGenerations() && !convergenceStop.isStopRequested()) {
 			if (config.isPrintIterations()) {
 				System.out.println("############################\n");
 				System.out.println("####### GENERATION: " + (generationAccumulated + 1) + " #######\n");
@@ -150,16 +158,35 @@ public class AEMMD {
 			finalizeGeneration();
 		}
 
+		convergenceStop.printBetterChromosomeFound();
 		showResult(initialTime);
 	}
 
 	private void initialize() throws Exception {
+		convergenceStop.reset();
+		ScheduleEvaluator.getInstance().setConvergenceListener(convergenceStop);
+
 		generationAccumulated = 0;
 		generationAccumulatedForApplyMutation = 0;
+		fitnessBound = new FitnessBound(config);
+		evaluationBound = FitnessBound.isApplicable(config) ? this::isChildRejectedByAllTables : null;
 
 		generateInitialPopulation();
 	}
 
+	//The child would not enter any table when each table rejects the best fitness the child can still reach
+	private boolean isChildRejectedByAllTables(int makespan, int flowTime, int communicationCost, int waitingTime) {
+		double[] maxFitnessByObjective = fitnessBound.calculate(makespan, flowTime, communicationCost, waitingTime);
+
+		for (Table table : tables) {
+			if (!table.isRejected(config, maxFitnessByObjective)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private void generateInitialPopulation() throws Exception {
 		for (int i = 1; i <= initialPopulation; i++) {
 			Chromosome chromosome = new Chromosome(generator, graph, config);
@@ -185,7 +212,10 @@ public class AEMMD {
 		Chromosome child = processPairSelection();
 		applyMutation(child);
 
-		addChromosomeToTables(child, false);
+		//A child rejected during the evaluation would not be added to any table
+		if (child.calculateMetrics(graph, config, evaluationBound)) {
+			addChromosomeToTables(child, false);
+		}
 	}
 
 	private void processTablesForDoubleTournament() {
@@ -223,7 +253,8 @@ public class AEMMD {
 	}
 
 	private Chromosome getCrossoverChildren(Chromosome parent1, Chromosome parent2) throws Exception {
-		List<Chromosome> generatedChildren = Crossover.getCrossover(parent1, parent2, graph, generator, config);
+		//Only the child chosen is evaluated, after the mutation
+		List<Chromosome> generatedChildren = Crossover.getCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config);
 
 		if (generatedChildren.size() == 0) {
 			return generatedChildren.get(0);
@@ -36,6 +36,11 @@ public class TableAEMMD extends Table {
         return true;
 	}
 
+	//An empty table accepts any chromosome
+	public boolean isRejected(Configuration config, double[] maxFitnessByObjective) {
+		return isDominated(config, maxFitnessByObjective);
+	}
+
 	private boolean isChromosomeDominated(Chromosome chromosome, Configuration config) {
         for (int chromosomeIndex = 0; chromosomeIndex < chromosomeList.size(); chromosomeIndex++) {
             Chromosome chromosomeB = chromosomeList.get(chromosomeIndex);
@@ -8,10 +8,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
+import com.br.ufu.scheduling.agmo.FitnessBound;
 import com.br.ufu.scheduling.agmo.Table;
 import com.br.ufu.scheduling.model.Chromosome;
+import com.br.ufu.scheduling.model.ConvergenceStop;
 import com.br.ufu.scheduling.model.DataForSpreadsheet;
+import com.br.ufu.scheduling.model.EvaluationBound;
 import com.br.ufu.scheduling.model.Graph;
+import com.br.ufu.scheduling.model.ScheduleEvaluator;
 import com.br.ufu.scheduling.utils.Configuration;
 import com.br.ufu.scheduling.utils.Constants;
 import com.br.ufu.scheduling.utils.Crossover;
@@ -30,11 +34,15 @@ public class AEMMT {
 	private Table table1ForDoubleTournament;
 	private Table table2ForDoubleTournament;
 
+	private EvaluationBound evaluationBound;
+	private FitnessBound fitnessBound;
+
 	private int initialPopulation;
 	private int nonDominatedTableIndex;
 	private int generationAccumulated;
 	private int generationAccumulatedForResetTableScore;
 	private int generationAccumulatedForApplyMutation;
+	private final ConvergenceStop convergenceStop = new ConvergenceStop();
 
 	public AEMMT(Configuration config, Graph graph, Random generator) throws Exception {
 		this.config = config;
@@ -169,7 +177,7 @@ public class AEMMT {
 	public void execute(long initialTime) throws Exception {
 		initialize();
 
-		while (generationAccumulated < config.getTotalGenerations()) {
+		while (generationAccumulated < config.getTotalGenerations() && !convergenceStop.isStopRequested()) {
 			resetTableScore();
 
 			if (config.isPrintIterations()) {
@@ -183,13 +191,19 @@ public class AEMMT {
 			finalizeGeneration();
 		}
 
+		convergenceStop.printBetterChromosomeFound();
 		showResult(initialTime);
 	}
 
 	private void initialize() throws Exception {
+		convergenceStop.reset();
+		ScheduleEvaluator.getInstance().setConvergenceListener(convergenceStop);
+
 		generationAccumulated = 0;
 		generationAccumulatedForResetTableScore = 0;
 		generationAccumulatedForApplyMutation = 0;
+		fitnessBound = new FitnessBound(config);
+		evaluationBound = FitnessBound.isApplicable(config) ? this::isChildRejectedByAllTables : null;
 
 		if (config.isCalculateMaximusAndMinimusForNormalization()) {
 			calculateMaxMinObjectivesValues();
@@ -279,6 +293,19 @@ public class AEMMT {
 		addChromosomesFromInitialPopulationToNonDominatedTable(chromosomeInitialList);
 	}
 
+	//The child would not enter any table (except the non-dominated one) when each table rejects the best fitness the child can still reach
+	private boolean isChildRejectedByAllTables(int makespan, int flowTime, int communicationCost, int waitingTime) {
+		double[] maxFitnessByObjective = fitnessBound.calculate(makespan, flowTime, communicationCost, waitingTime);
+
+		for (int tableIndex = 0; tableIndex < tables.size() - 1; tableIndex++) {
+			if (!tables.get(tableIndex).isRejected(config, maxFitnessByObjective)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private boolean addChromosomeToTables(Chromosome chromosome) throws Exception {
 		boolean addedInSometable = false;
 
@@ -358,7 +385,8 @@ public class AEMMT {
 		Chromosome child = processPairSelection();
 		applyMutation(child);
 
-		if (addChromosomeToTables(child)) {
+		//The child reaches the non-dominated table only through the other tables, so its simulation is aborted when none of them would accept it
+		if (child.calculateMetrics(graph, config, evaluationBound) && addChromosomeToTables(child)) {
 			processTableScore();
 			addChromosomeChildToNonDominatedTable(child);
 		}
@@ -399,7 +427,8 @@ public class AEMMT {
 	}
 
 	private Chromosome getCrossoverChildren(Chromosome parent1, Chromosome parent2) throws Exception {
-		List<Chromosome> generatedChildren = Crossover.getCrossover(parent1, parent2, graph, generator, config);
+		//Only the child chosen is evaluated, after the mutation
+		List<Chromosome> generatedChildren = Crossover.getCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config);
 
 		if (generatedChildren.size() == 0) {
 			return generatedChildren.get(0);
@@ -8,6 +8,13 @@ import com.br.ufu.scheduling.utils.CalculateValueForSort;
 import com.br.ufu.scheduling.utils.Configuration;
 
 public class TableAEMMT extends Table {
+	private static final Comparator<Chromosome> ASCENDING_VALUE_FOR_SORT = new Comparator<Chromosome>() {
+		@Override
+		public int compare(Chromosome o1, Chromosome o2) {
+			return o1.getValueForSort() < o2.getValueForSort() ? -1 : o1.getValueForSort() == o2.getValueForSort() ? 0 : 1;
+		}
+	};
+
 	public TableAEMMT(int size) {
 		super(size);
 	}
@@ -26,12 +33,7 @@ public class TableAEMMT extends Table {
 		}
 
 		// Ascending sort
-		chromosomeList.sort(new Comparator<Chromosome>() {
-			@Override
-			public int compare(Chromosome o1, Chromosome o2) {
-				return o1.getValueForSort() < o2.getValueForSort() ? -1 : o1.getValueForSort() == o2.getValueForSort() ? 0 : 1;
-			}
-		});
+		chromosomeList.sort(ASCENDING_VALUE_FOR_SORT);
 
 		double valueForSort = CalculateValueForSort.calculate(chromosome, config, objectives);
 
@@ -47,4 +49,16 @@ public class TableAEMMT extends Table {
 
 		return false;
 	}
+
+	//A full table only accepts a chromosome with a value for sort greater than the smallest one of the table.
+	//The table is sorted as in add, so the order of the table (used by the raffle of the parents) does not depend on the rejection.
+	public boolean isRejected(Configuration config, double[] maxFitnessByObjective) {
+		if (chromosomeList.size() < size) {
+			return false;
+		}
+
+		chromosomeList.sort(ASCENDING_VALUE_FOR_SORT);
+
+		return CalculateValueForSort.calculateUpperBound(maxFitnessByObjective, config, objectives) <= chromosomeList.get(0).getValueForSort();
+	}
 }
\ No newline at end of file
@@ -13,9 +13,12 @@ import com.br.ufu.scheduling.enums.SelectionType;
 import com.br.ufu.scheduling.file.csv.GeneratorDifferentChromosome;
 import com.br.ufu.scheduling.model.BestResultByObjective;
 import com.br.ufu.scheduling.model.Chromosome;
+import com.br.ufu.scheduling.model.ConvergenceStop;
 import com.br.ufu.scheduling.model.DataForSpreadsheet;
 import com.br.ufu.scheduling.model.FinalResultModel;
 import com.br.ufu.scheduling.model.Graph;
+import com.br.ufu.scheduling.model.ScheduleEvaluator;
+import com.br.ufu.scheduling.model.VectorArena;
 import com.br.ufu.scheduling.nsga.nsga2.NSGAII;
 import com.br.ufu.scheduling.nsga.nsga3.NSGAIII;
 import com.br.ufu.scheduling.utils.Configuration;
@@ -30,6 +33,7 @@ public class AGScheduling {
     private Random generator;
     private Configuration config;
     private Graph graph;
+    private VectorArena vectorArena; //Vectors of the chromosomes: the slots of the ones discarded in the reinsertion are reused by the next children
     private int[] roulette;
     private int totalChromosomeScoreForSorting;
     private Chromosome bestChromosomeFound;
@@ -38,6 +42,7 @@ public class AGScheduling {
 
     private boolean firstGeneration = true;
     private boolean findBestChromosomeInGeneration = false;
+    private final ConvergenceStop convergenceStop = new ConvergenceStop();
 
     // Variables for the average calculation
     private int totalSuccess;
@@ -63,11 +68,9 @@ public class AGScheduling {
             generator = new Random(this.config.getSeed());
         }
 
-        if (Constants.USE_DEFAULT_GRAPH.equals(this.config.getTaskGraphFileName())) {
-            graph = Graph.initializeGraph();
-        } else {
-            graph = Graph.initializeGraph(this.config);
-        }
+        //The speed factors and the execution time file are also applied to the default graph
+        graph = Graph.initializeGraph(this.config);
+        vectorArena = new VectorArena(graph.getNumberOfVertices(), 2 * config.getInitialPopulation());
     }
 
     public AGScheduling(Configuration config, BufferedWriter finalResultWriter) throws Exception {
@@ -129,7 +132,10 @@ public class AGScheduling {
     private void executeStandarGeneticAlgorithm(long initialTime) throws Exception {
         int iteration = 0;
 
-        while (iteration < config.getIterations()) {
+        convergenceStop.reset();
+        ScheduleEvaluator.getInstance().setConvergenceListener(convergenceStop);
+
+        while (iteration < config.getIterations() && !convergenceStop.isStopRequested()) {
             if (config.isPrintIterations()) {
                 System.out.println("############################\n");
                 System.out.println("####### ITERATION: " + (iteration + 1) + " #######\n");
@@ -141,7 +147,8 @@ public class AGScheduling {
             int generation = 0;
 
             while (generation < config.getGenerations()
-                    && !(config.isStopGenerationIfFindBestSolution() && findBestChromosomeInGeneration)) {
+                    && !(config.isStopGenerationIfFindBestSolution() && findBestChromosomeInGeneration)
+                    && !convergenceStop.isStopRequested()) {
                 if (config.isPrintGenerations()) {
                     System.out.println("##### GENERATION: " + (generation + 1) + " #####\n");
                 }
@@ -159,11 +166,15 @@ public class AGScheduling {
             iteration++;
         }
 
+        convergenceStop.printBetterChromosomeFound();
         showResult(initialTime);
     }
 
-    private void resetIteration() {
+    private void resetIteration() throws Exception {
         firstGeneration = true;
+
+        bestResult.detachFrom(vectorArena);
+        vectorArena.releaseAll(chromosomeList);
         chromosomeList.clear();
     }
 
@@ -177,7 +188,7 @@ public class AGScheduling {
     private void executeAG() throws Exception {
         if (firstGeneration) {
             for (int i = 0; i < config.getInitialPopulation(); i++) {
-                Chromosome chromosome = new Chromosome(generator, graph, config);
+                Chromosome chromosome = new Chromosome(vectorArena, generator, graph, config);
                 addChromosomeInGeneralList(chromosome);
             }
 
@@ -224,8 +235,8 @@ public class AGScheduling {
 
             case SIMPLE_TOURNAMENT:
             case STOCHASTIC_TOURNAMENT:
-                parent1 = raffleChromosomeByTournament(new ArrayList<>(chromosomeList), null);
-                parent2 = raffleChromosomeByTournament(new ArrayList<>(chromosomeList), parent1);
+                parent1 = raffleChromosomeByTournament(chromosomeList, null);
+                parent2 = raffleChromosomeByTournament(chromosomeList, parent1);
                 break;
 
             default:
@@ -382,7 +393,7 @@ public class AGScheduling {
         return raffleIndex(rouletteLength);
     }
 
-    private Chromosome raffleChromosomeByTournament(List<Chromosome> copyOfChromosomeList,
+    private Chromosome raffleChromosomeByTournament(List<Chromosome> candidateList,
             Chromosome chromosomeAlreadyChosen) {
         Chromosome chromosome = null;
 
@@ -396,14 +407,14 @@ public class AGScheduling {
         // individual different from the first is drawn, or we will use a repeated one
         // even
         if (chromosomeAlreadyChosen == null) {
-            chromosome = raffleChromosomeByTournament(new ArrayList<Chromosome>(copyOfChromosomeList));
+            chromosome = raffleChromosomeByTournament(candidateList);
 
         } else {
             int currentAttemptSelectParentNotRepeated = 0;
 
             while (currentAttemptSelectParentNotRepeated < config.getAttemptSelectParentNotRepeated()
                     && (chromosome == null || chromosomeAlreadyChosen.equals(chromosome))) {
-                chromosome = raffleChromosomeByTournament(new ArrayList<Chromosome>(copyOfChromosomeList));
+                chromosome = raffleChromosomeByTournament(candidateList);
 
                 currentAttemptSelectParentNotRepeated++;
             }
@@ -412,7 +423,7 @@ public class AGScheduling {
         return chromosome;
     }
 
-    private Chromosome raffleChromosomeByTournament(List<Chromosome> copyOfChromosomeList) {
+    private Chromosome raffleChromosomeByTournament(List<Chromosome> candidateList) {
         Chromosome chromosome = null;
 
         for (int tour = 0; tour < config.getTourForTournament(); tour++) {
@@ -426,8 +437,8 @@ public class AGScheduling {
             }
 
             if (chromosome == null
-                    || chromosome.getFitness() > copyOfChromosomeList.get(chromosomeRaffledIndex).getFitness()) {
-                chromosome = copyOfChromosomeList.get(chromosomeRaffledIndex);
+                    || chromosome.getFitness() > candidateList.get(chromosomeRaffledIndex).getFitness()) {
+                chromosome = candidateList.get(chromosomeRaffledIndex);
             }
         }
 
@@ -447,7 +458,7 @@ public class AGScheduling {
     }
 
     private List<Chromosome> getCrossoverChildren(Chromosome parent1, Chromosome parent2) throws Exception {
-        List<Chromosome> generatedChildren = Crossover.getCrossover(parent1, parent2, graph, generator, config);
+        List<Chromosome> generatedChildren = Crossover.getCrossover(parent1, parent2, graph, generator, config, vectorArena);
         addChromosomeInGeneralList(generatedChildren);
 
         return generatedChildren;
@@ -493,6 +504,10 @@ public class AGScheduling {
         List<Chromosome> chromosomeListForReinsertion = new ArrayList<>(parentList.subList(0, elitismParents));
         chromosomeListForReinsertion.addAll(new ArrayList<>(childrenList));
 
+        //The chromosomes of the generation (the parents and the children) that are not reinserted release their slots
+        bestResult.detachFrom(vectorArena);
+        vectorArena.releaseDiscarded(chromosomeList, chromosomeListForReinsertion);
+
         chromosomeList = new ArrayList<>(chromosomeListForReinsertion);
         sort(chromosomeList);
 
@@ -572,9 +587,10 @@ public class AGScheduling {
         return false;
     }
 
-    private void updateBestChromosome(Chromosome bestChromosome) {
+    //The best chromosome found is kept after its generation, so it is a clone, with a block of its own
+    private void updateBestChromosome(Chromosome bestChromosome) throws CloneNotSupportedException {
         if (bestChromosomeFound == null || bestChromosome.getFitness() > bestChromosomeFound.getFitness()) {
-            bestChromosomeFound = bestChromosome;
+            bestChromosomeFound = (Chromosome) bestChromosome.clone();
         }
     }
 
@@ -0,0 +1,49 @@
+package com.br.ufu.scheduling.agmo;
+
+import com.br.ufu.scheduling.enums.MetricType;
+import com.br.ufu.scheduling.utils.Configuration;
+import com.br.ufu.scheduling.utils.Constants;
+import com.br.ufu.scheduling.utils.Utils;
+
+//Best fitness that a child still being simulated can reach, from the lower bounds of its objectives informed by the evaluator (EvaluationBound).
+//The tables use it to reject the child before the end of the simulation, when it could not enter any of them.
+public class FitnessBound {
+	private final Configuration config;
+	private final double[] maxFitnessByObjective = new double[MetricType.getTotalMetrics()];
+
+	public FitnessBound(Configuration config) {
+		this.config = config;
+	}
+
+	//The partial objectives only bound the fitness when the load balance (which can decrease during the simulation) is not an objective
+	//and the fitness decreases when the objective value increases
+	public static boolean isApplicable(Configuration config) {
+		if (config.getMaximizationConstant() <= Constants.MAXIMIZATION_PROBLEM) {
+			return false;
+		}
+
+		for (int objective = 1; objective <= config.getTotalObjectives(); objective++) {
+			if (Utils.getActualObjectiveIndex(config, objective) == Constants.LOAD_BALANCE) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	//Returns the best fitness by objective (index of Constants). The vector is reused by the next calculation
+	public double[] calculate(int makespan, int flowTime, int communicationCost, int waitingTime) {
+		maxFitnessByObjective[Constants.MAKESPAN] = getMaxFitness(makespan);
+		maxFitnessByObjective[Constants.LOAD_BALANCE] = Double.POSITIVE_INFINITY;
+		maxFitnessByObjective[Constants.FLOW_TIME] = getMaxFitness(flowTime);
+		maxFitnessByObjective[Constants.COMMUNICATION_COST] = getMaxFitness(communicationCost);
+		maxFitnessByObjective[Constants.WAITING_TIME] = getMaxFitness(waitingTime);
+
+		return maxFitnessByObjective;
+	}
+
+	//A value zero has fitness zero, but the final value can still be any positive value, so there is no bound yet
+	private double getMaxFitness(int partialValue) {
+		return partialValue > 0 ? config.getTransformedObjectiveValue(partialValue) : Double.POSITIVE_INFINITY;
+	}
+}
@@ -72,6 +72,36 @@ public abstract class Table {
 
 	public abstract boolean add(Chromosome chromosome, Configuration config) throws Exception;
 
+	//The values informed are the best fitness that a chromosome still being evaluated can reach in each objective (index of Constants).
+	//Returns true when add would certainly return false for this chromosome, so its simulation can be aborted.
+	public abstract boolean isRejected(Configuration config, double[] maxFitnessByObjective);
+
+	//The values informed are the best fitness that a chromosome can reach in each objective (index of Constants).
+	//Returns true when a chromosome of the table is better than them in all the objectives of the table, so the chromosome would be dominated.
+	public boolean isDominated(Configuration config, double[] maxFitnessByObjective) {
+		for (Chromosome chromosomeB : chromosomeList) {
+			if (isBetterInAllObjectives(config, chromosomeB, maxFitnessByObjective)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean isBetterInAllObjectives(Configuration config, Chromosome chromosomeB, double[] maxFitnessByObjective) {
+		int[] objectivePlan = config.getObjectivePlan();
+
+		for (int objective : objectives) {
+			int realObjective = objectivePlan[objective - 1];
+
+			if (Double.compare(chromosomeB.getObjectiveValue(realObjective), maxFitnessByObjective[realObjective]) <= 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	protected Chromosome buildChromosomeClone(Chromosome chromosome) throws Exception {
 		Chromosome clone = null;
 
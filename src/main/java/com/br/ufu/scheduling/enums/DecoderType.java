@@ -0,0 +1,5 @@
+package com.br.ufu.scheduling.enums;
+
+public enum DecoderType {
+	APPEND, INSERTION, DUPLICATION
+}
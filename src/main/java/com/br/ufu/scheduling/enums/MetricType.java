@@ -1,5 +1,49 @@
 package com.br.ufu.scheduling.enums;
 
+import com.br.ufu.scheduling.utils.Constants;
+
+//Objectives that can be evaluated. The ordinal is the index of the objective in the vectors of objectives (Constants.MAKESPAN until Constants.WAITING_TIME),
+//so a new objective is registered here, with the value calculated by the evaluators
 public enum MetricType {
-	MAKESPAN, LOAD_BALANCE, FLOW_TIME, COMMUNICATION_COST, WAITING_TIME;
+	MAKESPAN("SLength", 1, Constants.BEST_SLENGTH),
+	LOAD_BALANCE("LoadBalance", Constants.LOAD_BALANCE_SCALE, Constants.BEST_LOAD_BALANCE),
+	FLOW_TIME("FlowTime", 1, Constants.BEST_FLOW_TIME),
+	COMMUNICATION_COST("CommunicationCost", 1, Constants.BEST_COMMUNICATION_COST),
+	WAITING_TIME("WaitingTime", 1, Constants.BEST_WAITING_TIME);
+
+	private static final MetricType[] METRIC_TYPES = values();
+
+	private final String objectiveName;
+	private final long scale; //The value is kept as an integer multiplied by the scale
+	private final double bestKnownValue;
+
+	MetricType(String objectiveName, long scale, double bestKnownValue) {
+		this.objectiveName = objectiveName;
+		this.scale = scale;
+		this.bestKnownValue = bestKnownValue;
+	}
+
+	public static int getTotalMetrics() {
+		return METRIC_TYPES.length;
+	}
+
+	public static MetricType getMetricType(int objectiveIndex) {
+		if (objectiveIndex < 0 || objectiveIndex >= METRIC_TYPES.length) {
+			throw new IllegalArgumentException("Type of objective invalid. Value: " + objectiveIndex + ".");
+		}
+
+		return METRIC_TYPES[objectiveIndex];
+	}
+
+	public String getObjectiveName() {
+		return objectiveName;
+	}
+
+	public long getScale() {
+		return scale;
+	}
+
+	public double getBestKnownValue() {
+		return bestKnownValue;
+	}
 }
@@ -103,7 +103,7 @@ public class GeneratorDifferentChromosome {
 	}
 
 	private String getChromosomeFormatted(Chromosome chromosome) {
-		return Arrays.toString(chromosome.getMapping()) + Arrays.toString(chromosome.getScheduling());
+		return Arrays.toString(chromosome.copyMapping()) + Arrays.toString(chromosome.copyScheduling());
 	}
 
 	private String getObjectivesFormatted(Chromosome chromosome) {
@@ -56,25 +56,11 @@ public class AGMOResultModel {
 	    double worstObjectiveValue = 0.0;
 
 	    //The lower the values, the better the chromosome, so best has the best value.
-	    if (config.getObjective1() == objective) {
-	        bestObjectiveValue = config.getRealMinObjectiveValue1();
-	        worstObjectiveValue = config.getRealMaxObjectiveValue1();
+	    int position = config.getObjectivePosition(objective);
 
-	    } else if (config.getObjective2() == objective) {
-            bestObjectiveValue = config.getRealMinObjectiveValue2();
-            worstObjectiveValue = config.getRealMaxObjectiveValue2();
-
-	    } else if (config.getObjective3() == objective) {
-            bestObjectiveValue = config.getRealMinObjectiveValue3();
-            worstObjectiveValue = config.getRealMaxObjectiveValue3();
-
-	    } else if (config.getObjective4() == objective) {
-            bestObjectiveValue = config.getRealMinObjectiveValue4();
-            worstObjectiveValue = config.getRealMaxObjectiveValue4();
-
-	    } else if (config.getObjective5() == objective) {
-            bestObjectiveValue = config.getRealMinObjectiveValue5();
-            worstObjectiveValue = config.getRealMaxObjectiveValue5();	        
+	    if (position > 0) {
+	        bestObjectiveValue = config.getRealMinObjectiveValue(position);
+	        worstObjectiveValue = config.getRealMaxObjectiveValue(position);
 	    }
 
 	    switch (objective) {
@@ -0,0 +1,174 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.br.ufu.scheduling.enums.DecoderType;
+import com.br.ufu.scheduling.enums.MetricType;
+import com.br.ufu.scheduling.utils.Configuration;
+
+//Evaluates a group of chromosomes (usually a whole generation of children) in a single loop, with the evaluator of the current thread.
+//The objective values are written in a flat vector by objective (structure of arrays): the value of the objective o for the chromosome i
+//is in objectiveValues[o * totalChromosomes + i], with the objectives in the order of MetricType (the indexes of Constants, MAKESPAN until WAITING_TIME).
+//The objectives of a chromosome rejected by the bound are Double.NaN.
+public class BatchEvaluator {
+	public static int getIndex(int objectiveIndex, int chromosomeIndex, int totalChromosomes) {
+		return objectiveIndex * totalChromosomes + chromosomeIndex;
+	}
+
+	public static double[] evaluate(int[][] mappings, int[][] schedulings, Graph graph, Configuration config) throws Exception {
+		double[] objectiveValues = new double[MetricType.getTotalMetrics() * mappings.length];
+		evaluate(mappings, schedulings, graph, config, objectiveValues);
+
+		return objectiveValues;
+	}
+
+	public static void evaluate(int[][] mappings, int[][] schedulings, Graph graph, Configuration config, double[] objectiveValues) throws Exception {
+		evaluate(mappings, schedulings, graph, config, null, objectiveValues);
+	}
+
+	//Only the vectors are simulated: no chromosome or metrics is created, and the fitness is not calculated.
+	//Returns the number of chromosomes rejected by the bound, whose objectives are Double.NaN.
+	public static int evaluate(int[][] mappings, int[][] schedulings, Graph graph, Configuration config, EvaluationBound bound, double[] objectiveValues) throws Exception {
+		if (mappings.length != schedulings.length) {
+			throw new IllegalArgumentException("The number of mapping vectors (" + mappings.length + ") is different from the number of scheduling vectors (" + schedulings.length + ").");
+		}
+
+		validateObjectiveValues(objectiveValues, mappings.length);
+
+		ScheduleEvaluator evaluator = ScheduleEvaluator.getInstance();
+		CompiledGraph compiledGraph = graph.getCompiledGraph();
+
+		int totalRejected = 0;
+
+		for (int chromosomeIndex = 0; chromosomeIndex < mappings.length; chromosomeIndex++) {
+			if (!evaluator.evaluate(compiledGraph, mappings[chromosomeIndex], schedulings[chromosomeIndex], config, bound, objectiveValues, chromosomeIndex, mappings.length)) {
+				markAsRejected(objectiveValues, chromosomeIndex, mappings.length);
+				totalRejected++;
+			}
+		}
+
+		return totalRejected;
+	}
+
+	public static boolean isRejected(double[] objectiveValues, int chromosomeIndex, int totalChromosomes) {
+		return Double.isNaN(objectiveValues[getIndex(0, chromosomeIndex, totalChromosomes)]);
+	}
+
+	private static void markAsRejected(double[] objectiveValues, int chromosomeIndex, int totalChromosomes) {
+		for (int objectiveIndex = 0; objectiveIndex < MetricType.getTotalMetrics(); objectiveIndex++) {
+			objectiveValues[getIndex(objectiveIndex, chromosomeIndex, totalChromosomes)] = Double.NaN;
+		}
+	}
+
+	//Evaluates the chromosomes not evaluated yet, calculating their metrics and fitness
+	public static void evaluate(List<Chromosome> chromosomes, Graph graph, Configuration config) throws Exception {
+		if (config.getEvaluationLanes() > 1 && config.getDecoderType() == DecoderType.APPEND && !config.isTestMode()) {
+			evaluateByLanes(chromosomes, graph, config);
+			return;
+		}
+
+		ScheduleEvaluator evaluator = ScheduleEvaluator.getInstance();
+
+		for (Chromosome chromosome : chromosomes) {
+			if (!chromosome.isEvaluated()) {
+				chromosome.calculateMetrics(evaluator, graph, config);
+			}
+		}
+	}
+
+	//The children with the same scheduling vector (e.g. the ones created by the crossover of the mapping and by the mutation) are simulated together by the multi-lane evaluator.
+	//The other ones are evaluated alone, so they can still start from the timeline of the parent.
+	private static void evaluateByLanes(List<Chromosome> chromosomes, Graph graph, Configuration config) throws Exception {
+		ScheduleEvaluator evaluator = ScheduleEvaluator.getInstance();
+		MultiLaneEvaluator multiLaneEvaluator = MultiLaneEvaluator.getInstance();
+
+		for (List<Chromosome> group : groupByScheduling(chromosomes)) {
+			if (group.size() == 1) {
+				group.get(0).calculateMetrics(evaluator, graph, config);
+				continue;
+			}
+
+			List<Chromosome> notCached = new ArrayList<>();
+
+			for (Chromosome chromosome : group) {
+				if (!evaluator.restoreFromCache(graph.getCompiledGraph(), chromosome, config)) {
+					notCached.add(chromosome);
+				}
+			}
+
+			evaluateByLanes(notCached, graph, config, evaluator, multiLaneEvaluator);
+		}
+	}
+
+	private static void evaluateByLanes(List<Chromosome> group, Graph graph, Configuration config, ScheduleEvaluator evaluator, MultiLaneEvaluator multiLaneEvaluator) {
+		if (group.isEmpty()) {
+			return;
+		}
+
+		for (int firstChromosome = 0; firstChromosome < group.size(); firstChromosome += config.getEvaluationLanes()) {
+			int totalLanes = Integer.min(config.getEvaluationLanes(), group.size() - firstChromosome);
+			multiLaneEvaluator.evaluate(graph.getCompiledGraph(), group, firstChromosome, totalLanes, config);
+
+			for (int lane = 0; lane < totalLanes; lane++) {
+				Chromosome chromosome = group.get(firstChromosome + lane);
+
+				ObjectiveRecord record = multiLaneEvaluator.getObjectiveRecord(lane, config);
+				ScheduleTimeline timeline = config.isIncrementalEvaluation() ? multiLaneEvaluator.buildTimeline(lane, chromosome) : null;
+
+				evaluator.finishSimulation(graph.getCompiledGraph(), chromosome, config, record, timeline, TaskCopies.WITHOUT_COPIES);
+			}
+		}
+	}
+
+	//Groups the chromosomes not evaluated yet by the content of the scheduling vector, keeping the order of the list
+	private static List<List<Chromosome>> groupByScheduling(List<Chromosome> chromosomes) {
+		Map<Integer, List<List<Chromosome>>> groupsByHash = new HashMap<>();
+		List<List<Chromosome>> groups = new ArrayList<>();
+
+		for (Chromosome chromosome : chromosomes) {
+			if (chromosome.isEvaluated()) {
+				continue;
+			}
+
+			List<List<Chromosome>> groupsWithSameHash = groupsByHash.computeIfAbsent(chromosome.getSchedulingHashCode(), hash -> new ArrayList<>());
+			List<Chromosome> group = null;
+
+			for (List<Chromosome> groupWithSameHash : groupsWithSameHash) {
+				if (groupWithSameHash.get(0).hasSameScheduling(chromosome)) {
+					group = groupWithSameHash;
+					break;
+				}
+			}
+
+			if (group == null) {
+				group = new ArrayList<>();
+				groupsWithSameHash.add(group);
+				groups.add(group);
+			}
+
+			group.add(chromosome);
+		}
+
+		return groups;
+	}
+
+	public static void evaluate(List<Chromosome> chromosomes, Graph graph, Configuration config, double[] objectiveValues) throws Exception {
+		validateObjectiveValues(objectiveValues, chromosomes.size());
+		evaluate(chromosomes, graph, config);
+
+		for (int chromosomeIndex = 0; chromosomeIndex < chromosomes.size(); chromosomeIndex++) {
+			for (int objectiveIndex = 0; objectiveIndex < MetricType.getTotalMetrics(); objectiveIndex++) {
+				objectiveValues[getIndex(objectiveIndex, chromosomeIndex, chromosomes.size())] = chromosomes.get(chromosomeIndex).getRealObjectiveValue(objectiveIndex);
+			}
+		}
+	}
+
+	private static void validateObjectiveValues(double[] objectiveValues, int totalChromosomes) {
+		if (objectiveValues.length < MetricType.getTotalMetrics() * totalChromosomes) {
+			throw new IllegalArgumentException("The vector of objective values must have at least " + (MetricType.getTotalMetrics() * totalChromosomes) + " positions. Size: " + objectiveValues.length + ".");
+		}
+	}
+}
@@ -161,6 +161,17 @@ public class BestResultByObjective {
         }
     }
 
+    //Called before the chromosomes of the arena are released: the best solutions keep a clone, with a block of its own, of the ones in the arena
+    public void detachFrom(VectorArena arena) throws CloneNotSupportedException {
+        if (bestSolutionBySimpleAverage != null && bestSolutionBySimpleAverage.getArena() == arena) {
+            bestSolutionBySimpleAverage = (Chromosome) bestSolutionBySimpleAverage.clone();
+        }
+
+        if (bestSolutionByHarmonicAverage != null && bestSolutionByHarmonicAverage.getArena() == arena) {
+            bestSolutionByHarmonicAverage = (Chromosome) bestSolutionByHarmonicAverage.clone();
+        }
+    }
+
     public void showResult() throws Exception {
         showResult(null);
     }
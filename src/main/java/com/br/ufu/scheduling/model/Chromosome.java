@@ -4,49 +4,205 @@ import java.io.BufferedWriter;
 import java.util.*;
 
 import com.br.ufu.scheduling.enums.AlgorithmType;
-import com.br.ufu.scheduling.exceptions.BetterChromosomeFoundException;
+import com.br.ufu.scheduling.enums.MetricType;
 import com.br.ufu.scheduling.utils.Configuration;
-import com.br.ufu.scheduling.utils.Constants;
 import com.br.ufu.scheduling.utils.Mutation;
 import com.br.ufu.scheduling.utils.Printer;
-import com.br.ufu.scheduling.utils.Utils;
 
+//The mapping and scheduling vectors are kept in a slot of a VectorArena: the chromosomes of a population share the block of the population,
+//and the other ones (like the clones, that must outlive the generation) have a block of their own. The timeline of the evaluation keeps copies of the vectors.
+//The vectors are only written before the evaluation (by the crossover or by the mutation), because the metrics would not be updated.
 public class Chromosome implements Cloneable {
 
 	// Variables
-	private int[] mapping; 		//Processors execution order - starts on processor 1
-	// Variables
-	private int[] scheduling;	//Task execution order - starts at task 1
+	private final VectorArena arena; //Mapping: processors execution order - starts on processor 1. Scheduling: task execution order - starts at task 1
+	private int slot;
 	// Objectives
 	private Metrics metrics = new Metrics();
+	private boolean evaluated;
+	//Timeline of the last evaluation (only kept when the incremental evaluation is enabled). Before the first one, the timeline of the parent
+	private ScheduleTimeline timeline;
+	private TaskCopies taskCopies = TaskCopies.WITHOUT_COPIES; //Only made by the duplication decoder
+	private double[] objectives; //Cached by objectives(int) until the next evaluation
 
-	public Map<Object, Object> attributes = new HashMap<>();
+	//NSGA2 and NSGAIII: only the result of the ranking. The data used to calculate it are kept by the algorithm, by position in the population
+	private int rank = -1;
+	private double crowdingDistance = 0;
 
 	public Chromosome(Graph graph) {
-		createVectors(graph);
+		this(new VectorArena(graph.getNumberOfVertices()));
 	}
 
 	public Chromosome(Random generator, Graph graph, Configuration config) throws Exception {
-		createVectors(graph);
+		this(new VectorArena(graph.getNumberOfVertices()), generator, graph, config);
+	}
+
+	//The chromosome is created in a slot of the arena of the population
+	public Chromosome(VectorArena arena, Random generator, Graph graph, Configuration config) throws Exception {
+		this(arena);
+
+		if (arena.getNumberOfTasks() != graph.getNumberOfVertices()) {
+			throw new IllegalArgumentException("The arena is not for the graph. Number of tasks: " + arena.getNumberOfTasks() + ". Number of vertices: " + graph.getNumberOfVertices() + ".");
+		}
+
 		generateChromosome(generator, graph, config);
 	}
 
+	//The vectors informed are copied
 	public Chromosome(int[] mapping, int[] scheduling, Graph graph, Configuration config) throws Exception {
-		this.mapping = mapping;
-		this.scheduling = scheduling;
+		this(new VectorArena(mapping.length));
+
+		if (mapping.length != scheduling.length) {
+			throw new IllegalArgumentException("The mapping vector (" + mapping.length + ") and the scheduling vector (" + scheduling.length + ") have different sizes.");
+		}
+
+		System.arraycopy(mapping, 0, arena.getVectors(), getMappingOffset(), mapping.length);
+		System.arraycopy(scheduling, 0, arena.getVectors(), getSchedulingOffset(), scheduling.length);
 
 		calculateMetrics(graph, config);
 	}
 
-	private Chromosome() {
+	//Child with empty vectors, to be written by the crossover, in a slot of the arena (or in a block of its own when the arena is null).
+	//The chromosome is not evaluated here: use calculateMetrics or BatchEvaluator.
+	//Only the part of the schedule that differs from the parent is simulated in the evaluation, when the parent keeps its timeline
+	public Chromosome(VectorArena arena, Chromosome parent) {
+		this(arena != null ? arena : new VectorArena(parent.getNumberOfTasks()));
+
+		if (this.arena.getNumberOfTasks() != parent.getNumberOfTasks()) {
+			throw new IllegalArgumentException("The arena is not for the parent. Number of tasks: " + this.arena.getNumberOfTasks() + ". Number of tasks of the parent: " + parent.getNumberOfTasks() + ".");
+		}
+
+		this.timeline = parent.timeline;
+	}
+
+	private Chromosome(VectorArena arena) {
+		this.arena = arena;
+		this.slot = arena.allocate();
+	}
+
+	public int getNumberOfTasks() {
+		return arena.getNumberOfTasks();
 	}
 
-	public int[] getMapping() {
-		return mapping;
+	//The task starts at 1
+	public int getProcessor(int task) {
+		validatePosition(task - 1);
+
+		return arena.getVectors()[getMappingOffset() + task - 1];
+	}
+
+	//The position starts at 0
+	public int getTask(int position) {
+		validatePosition(position);
+
+		return arena.getVectors()[getSchedulingOffset() + position];
+	}
+
+	public int[] copyMapping() {
+		return Arrays.copyOfRange(arena.getVectors(), getMappingOffset(), getMappingOffset() + getNumberOfTasks());
+	}
+
+	public int[] copyScheduling() {
+		return Arrays.copyOfRange(arena.getVectors(), getSchedulingOffset(), getSchedulingOffset() + getNumberOfTasks());
 	}
 
-	public int[] getScheduling() {
-		return scheduling;
+	//Copies the positions [fromPosition, toPosition) of the mapping vector of the source
+	public void copyMappingFrom(Chromosome source, int fromPosition, int toPosition) {
+		validateChange(fromPosition, toPosition);
+		System.arraycopy(source.arena.getVectors(), source.getMappingOffset() + fromPosition, arena.getVectors(), getMappingOffset() + fromPosition, toPosition - fromPosition);
+	}
+
+	//Copies the positions [fromPosition, toPosition) of the scheduling vector of the source
+	public void copySchedulingFrom(Chromosome source, int fromPosition, int toPosition) {
+		validateChange(fromPosition, toPosition);
+		System.arraycopy(source.arena.getVectors(), source.getSchedulingOffset() + fromPosition, arena.getVectors(), getSchedulingOffset() + fromPosition, toPosition - fromPosition);
+	}
+
+	public void setTask(int position, int task) {
+		validateChange(position, position + 1);
+		arena.getVectors()[getSchedulingOffset() + position] = task;
+	}
+
+	private void validatePosition(int position) {
+		if (position < 0 || position >= getNumberOfTasks()) {
+			throw new IllegalArgumentException("Invalid position of the vector. Value: " + position + ".");
+		}
+	}
+
+	private void validateChange(int fromPosition, int toPosition) {
+		if (evaluated) {
+			throw new IllegalStateException("The vectors of an evaluated chromosome cannot be changed.");
+		}
+
+		if (fromPosition < 0 || toPosition > getNumberOfTasks() || fromPosition > toPosition) {
+			throw new IllegalArgumentException("Invalid positions of the vector. From: " + fromPosition + ". To: " + toPosition + ".");
+		}
+	}
+
+	VectorArena getArena() {
+		return arena;
+	}
+
+	int getSlot() {
+		return slot;
+	}
+
+	boolean isReleased() {
+		return slot == -1;
+	}
+
+	//Called by the arena: the chromosome must not be used anymore
+	void releaseSlot() {
+		slot = -1;
+	}
+
+	//The block of the arena, where the vectors of the chromosome are in the offsets below
+	int[] getVectors() {
+		return arena.getVectors();
+	}
+
+	int getMappingOffset() {
+		return arena.getMappingOffset(slot);
+	}
+
+	int getSchedulingOffset() {
+		return arena.getSchedulingOffset(slot);
+	}
+
+	//Same value of Arrays.hashCode for the scheduling vector
+	int getSchedulingHashCode() {
+		int[] vectors = arena.getVectors();
+		int hashCode = 1;
+
+		for (int position = getSchedulingOffset(); position < getSchedulingOffset() + getNumberOfTasks(); position++) {
+			hashCode = 31 * hashCode + vectors[position];
+		}
+
+		return hashCode;
+	}
+
+	boolean hasSameScheduling(Chromosome other) {
+		if (getNumberOfTasks() != other.getNumberOfTasks()) {
+			return false;
+		}
+
+		for (int position = 0; position < getNumberOfTasks(); position++) {
+			if (arena.getVectors()[getSchedulingOffset() + position] != other.arena.getVectors()[other.getSchedulingOffset() + position]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	//Copies the vectors to the ones informed, which must have the size of the vectors
+	void copyVectors(int[] mapping, int[] scheduling) {
+		System.arraycopy(arena.getVectors(), getMappingOffset(), mapping, 0, getNumberOfTasks());
+		System.arraycopy(arena.getVectors(), getSchedulingOffset(), scheduling, 0, getNumberOfTasks());
+	}
+
+	public boolean isEvaluated() {
+		return evaluated;
 	}
 
 	public double getSLength() {
@@ -73,6 +229,11 @@ public class Chromosome implements Cloneable {
 		return metrics.getFitness();
 	}
 
+	//Copies of tasks in the schedule, only made by the duplication decoder
+	public TaskCopies getTaskCopies() {
+		return taskCopies;
+	}
+
 	public int getFitnessAdjusted() {
 		return metrics.getFitnessAjusted();
 	}
@@ -99,64 +260,28 @@ public class Chromosome implements Cloneable {
 
 	//NSGA2 and NSGAIII
     public int getRank() {
-        return metrics.getRank();
+        return rank;
     }
 
     public void setRank(int rank) {
-        metrics.setRank(rank);
+        this.rank = rank;
     }
 
     public double getCrowdingDistance() {
-        return metrics.getCrowdingDistance();
+        return crowdingDistance;
     }
 
     public void setCrowdingDistance(double crowdingDistance) {
-        metrics.setCrowdingDistance(crowdingDistance);
-    }
-
-    public List<Chromosome> getDominatedChromosomes() {
-        return metrics.getDominatedChromosomes();
-    }
-
-    public void setDominatedChromosomes(List<Chromosome> dominatedChromosomes) {
-        metrics.setDominatedChromosomes(dominatedChromosomes);
-    }
-
-    public int getDominatedCount() {
-        return metrics.getDominatedCount();
-    }
-
-    public void setDominatedCount(int dominationCount) {
-        metrics.setDominatedCount(dominationCount);
-    }
-
-    public void addDominatedChromosome(Chromosome chromosome) {
-        metrics.addDominatedChromosome(chromosome);
-    }
-
-    public void incrementDominatedCount(int incrementValue) {
-        metrics.incrementDominatedCount(incrementValue);
-    }
-
-    public void reset() {
-        metrics.reset();
-    }
-
-    public List<Double> getNormalizedObjectiveValues() {
-        return metrics.getNormalizedObjectiveValues();
-    }
-
-    public void setNormalizedObjectiveValue(int index, double value) {
-        metrics.setNormalizedObjectiveValue(index, value);
+        this.crowdingDistance = crowdingDistance;
     }
     //FIM NSGA2
 
     public double getSimpleAverage() {
-        return metrics.getSimpleAverage();
+        return metrics.getSimpleAverage(this);
     }
 
     public double getHarmonicAverage() {
-        return metrics.getHarmonicAverage();
+        return metrics.getHarmonicAverage(this);
     }
 
 	public double getValueForSort() {
@@ -167,11 +292,6 @@ public class Chromosome implements Cloneable {
 		metrics.setValueForSort(valueForSort);
 	}
 
-	private void createVectors(Graph graph) {
-		mapping = new int[graph.getNumberOfVertices()];
-		scheduling = new int[graph.getNumberOfVertices()];
-	}
-
 	private void generateChromosome(Random generator, Graph graph, Configuration config) throws Exception {
 		populateMapping(generator, config);
 		populateScheduling(generator, graph);
@@ -179,9 +299,12 @@ public class Chromosome implements Cloneable {
 	}
 
 	private void populateMapping(Random generator, Configuration config) {
-		for (int i = 0; i < mapping.length; i++) {
+		int[] vectors = arena.getVectors();
+		int mappingOffset = getMappingOffset();
+
+		for (int i = 0; i < getNumberOfTasks(); i++) {
 			//Plus 1, because the index of the first processor will be 1 e not 0 
-			mapping[i] = generator.nextInt(config.getTotalProcessors()) + 1;
+			vectors[mappingOffset + i] = generator.nextInt(config.getTotalProcessors()) + 1;
 		}
 	}
 
@@ -192,10 +315,13 @@ public class Chromosome implements Cloneable {
 		List<Integer> listOfSourceNodesForRaffle = new ArrayList<>();
 		listOfSourceNodesForRaffle.add(graph.getFirstTask()); //We always begin for the first task
 
-		for (int i = 0; i < scheduling.length; i++) {
+		int[] vectors = arena.getVectors();
+		int schedulingOffset = getSchedulingOffset();
+
+		for (int i = 0; i < getNumberOfTasks(); i++) {
 			if (i == 0) { //First Task?
 				int rootNode = listOfSourceNodesForRaffle.get(i);
-				scheduling[i] = rootNode;
+				vectors[schedulingOffset + i] = rootNode;
 
 				addRaffledDestinationNode(listOfRaffledDestinationNodes, rootNode);
 
@@ -213,7 +339,7 @@ public class Chromosome implements Cloneable {
 					|| isEdgeUsed(listOfRaffledEdges, raffledSourceNode, raffledDestinationNode) 
 					|| isAlreadyRaffledDestinationNode(listOfRaffledDestinationNodes, raffledDestinationNode));
 
-			scheduling[i] = raffledDestinationNode;
+			vectors[schedulingOffset + i] = raffledDestinationNode;
 
 			addRaffledNode(listOfSourceNodesForRaffle, raffledDestinationNode); 
 			addRaffledDestinationNode(listOfRaffledDestinationNodes, raffledDestinationNode);
@@ -292,21 +418,39 @@ public class Chromosome implements Cloneable {
 	}
 
 	public void calculateMetrics(Graph graph, Configuration config) throws Exception {
-		try {
-			metrics.calculateMetrics(graph, this, config);
-		} catch (BetterChromosomeFoundException e) {
-			System.out.println("Better Chromosome Found:");
-			Printer.printChromosomeVectors(mapping, scheduling);
-
-			BetterChromosomeFoundException e2 = new BetterChromosomeFoundException(e.getMessage());
-			e2.initCause(e);
-			throw e2;
-		}
+		calculateMetrics(ScheduleEvaluator.getInstance(), graph, config);
+	}
+
+	public void calculateMetrics(ScheduleEvaluator evaluator, Graph graph, Configuration config) throws Exception {
+		calculateMetrics(evaluator, graph, config, timeline, null);
+	}
+
+	//Returns false when the bound rejects the chromosome during the simulation: in this case it stays not evaluated and must be discarded
+	public boolean calculateMetrics(Graph graph, Configuration config, EvaluationBound bound) throws Exception {
+		return calculateMetrics(ScheduleEvaluator.getInstance(), graph, config, timeline, bound);
+	}
+
+	private boolean calculateMetrics(ScheduleEvaluator evaluator, Graph graph, Configuration config, ScheduleTimeline reference, EvaluationBound bound) throws Exception {
+		return evaluator.evaluate(graph, this, config, reference, bound);
+	}
+
+	//Keeps the result of an evaluation, made by an evaluator or restored from the fitness cache
+	void finishEvaluation(Configuration config, ObjectiveRecord record, ScheduleTimeline timeline, TaskCopies taskCopies) {
+		metrics.setRecord(record, config);
+		this.timeline = timeline;
+		this.taskCopies = taskCopies;
+		evaluated = true;
+		objectives = null;
 	}
 
+	//A chromosome not evaluated yet is only changed, to be evaluated later with the other children
 	public void applyMutation(Random generator, Graph graph, Configuration config) throws Exception {
-		mapping = Mutation.applyMutation(generator, mapping, config);
-		calculateMetrics(graph, config);
+		Mutation.applyMutation(generator, arena.getVectors(), getMappingOffset(), getNumberOfTasks(), config);
+
+		if (evaluated) {
+			//The scheduling vector does not change, so only the tasks from the first one with a new processor are simulated again
+			calculateMetrics(ScheduleEvaluator.getInstance(), graph, config, timeline, null);
+		}
 	}
 
 	public void printChromosome(Configuration config, AlgorithmType algorithmType) throws Exception {
@@ -322,114 +466,51 @@ public class Chromosome implements Cloneable {
     }
 
 	public Object clone() throws CloneNotSupportedException {
-		Chromosome clone = new Chromosome();
-		clone.mapping = this.mapping.clone();
-		clone.scheduling = this.scheduling.clone();
+		//The clone has a block of its own, so it is kept when the slot of this chromosome is released
+		Chromosome clone = new Chromosome(new VectorArena(getNumberOfTasks()));
+		System.arraycopy(arena.getVectors(), getMappingOffset(), clone.arena.getVectors(), clone.getMappingOffset(), 2 * getNumberOfTasks());
 		clone.metrics = (Metrics) this.metrics.clone();
+		clone.evaluated = this.evaluated;
+		clone.timeline = this.timeline;
+		clone.taskCopies = this.taskCopies;
+		clone.objectives = this.objectives;
 		return  clone;
 	}
 
 	public double getObjectiveValue(Integer objectiveIndex) {
-		double objectiveValue = 0.0;
-
-		switch (objectiveIndex) {
-		case Constants.MAKESPAN:
-			objectiveValue = getFitnessForSLength();
-			break;
-
-		case Constants.LOAD_BALANCE:
-			objectiveValue = getFitnessForLoadBalance();
-			break;
-
-		case Constants.FLOW_TIME:
-			objectiveValue = getFitnessForFlowTime();
-			break;
-
-		case Constants.COMMUNICATION_COST:
-			objectiveValue = getFitnessForCommunicationCost();
-			break;
-
-		case Constants.WAITING_TIME:
-			objectiveValue = getFitnessForWaitingTime();
-			break;
-
-		default:
-			throw new IllegalArgumentException("Type of objective invalid. Value: " + objectiveIndex + ".");
-		}
+		return metrics.getFitnessForObjective(objectiveIndex);
+	}
 
-		return objectiveValue;
+	//Integer key with the same order of getObjectiveValue, used to compare chromosomes exactly
+	public long getObjectiveKey(int objectiveIndex) {
+		return metrics.getObjectiveKey(objectiveIndex);
 	}
 
+	//The vector is created once for each evaluation and shared with the callers (and the clones), so it must not be changed
 	public double[] objectives(int numberOfObjectives) {
-		switch (numberOfObjectives) {
-			case 1:
-				return new double[]{
-						getSLength()
-				};
-			case 2:
-				return new double[]{
-						getSLength(),
-						getLoadBalance()
-				};
-			case 3:
-				return new double[]{
-						getSLength(),
-						getLoadBalance(),
-						getFlowTime()
-				};
-			case 4:
-				return new double[]{
-						getSLength(),
-						getLoadBalance(),
-						getFlowTime(),
-						getCommunicationCost()
-				};
-			case 5:
-				return new double[]{
-						getSLength(),
-						getLoadBalance(),
-						getFlowTime(),
-						getCommunicationCost(),
-						getWaitingTime()
-				};
-			default:
-				return new double[]{};
+		if (objectives == null || objectives.length != numberOfObjectives) {
+			objectives = createObjectives(numberOfObjectives);
 		}
-	}
 
-	public Map<Object, Object> attributes() {
-		return attributes;
+		return objectives;
 	}
 
-    public double getRealObjectiveValue(Integer objectiveIndex) {
-        double objectiveValue = 0.0;
-
-        switch (objectiveIndex) {
-        case Constants.MAKESPAN:
-            objectiveValue = getSLength();
-            break;
-
-        case Constants.LOAD_BALANCE:
-            objectiveValue = getLoadBalance();
-            break;
-
-        case Constants.FLOW_TIME:
-            objectiveValue = getFlowTime();
-            break;
+	private double[] createObjectives(int numberOfObjectives) {
+		if (numberOfObjectives < 1 || numberOfObjectives > MetricType.getTotalMetrics()) {
+			return new double[0];
+		}
 
-        case Constants.COMMUNICATION_COST:
-            objectiveValue = getCommunicationCost();
-            break;
+		double[] objectives = new double[numberOfObjectives];
 
-        case Constants.WAITING_TIME:
-            objectiveValue = getWaitingTime();
-            break;
+		for (int objectiveIndex = 0; objectiveIndex < numberOfObjectives; objectiveIndex++) {
+			objectives[objectiveIndex] = metrics.getObjectiveValue(objectiveIndex);
+		}
 
-        default:
-            throw new IllegalArgumentException("Type of objective invalid. Value: " + objectiveIndex + ".");
-        }
+		return objectives;
+	}
 
-        return objectiveValue;
+    public double getRealObjectiveValue(Integer objectiveIndex) {
+        return metrics.getObjectiveValue(objectiveIndex);
     }
 
 	/**
@@ -440,19 +521,15 @@ public class Chromosome implements Cloneable {
 	 * 
 	 * */
 	public boolean isChromosomeDominated(Configuration config, Chromosome chromosomeB) {
-		boolean isChromosomeDominated = false;
+		int[] objectivePlan = config.getObjectivePlan();
 
-		for (int objectiveIndex = 1; objectiveIndex <= config.getTotalObjectives(); objectiveIndex++) {
-			int result = Double.compare(chromosomeB.getObjectiveValue(Utils.getActualObjectiveIndex(config, objectiveIndex)), this.getObjectiveValue(Utils.getActualObjectiveIndex(config, objectiveIndex)));
-
-			if (result > 0) {
-				isChromosomeDominated = true;
-			} else {
+		for (int objectiveIndex : objectivePlan) {
+			if (chromosomeB.getObjectiveKey(objectiveIndex) <= this.getObjectiveKey(objectiveIndex)) {
 				return false;
 			}
 		}
 
-		return isChromosomeDominated;
+		return objectivePlan.length > 0;
 	}
 
 	   /**
@@ -463,20 +540,17 @@ public class Chromosome implements Cloneable {
      * 
      * */
     public boolean isChromosomeDominated(Configuration config, List<Integer> objectives, Chromosome chromosomeB) {
-        boolean isChromosomeDominated = false;
+        int[] objectivePlan = config.getObjectivePlan();
 
         for (int objective : objectives) {
-            int realObjective = Utils.getActualObjectiveIndex(config, objective);
-            int result = Double.compare(chromosomeB.getObjectiveValue(realObjective), this.getObjectiveValue(realObjective));
+            int realObjective = objectivePlan[objective - 1];
 
-            if (result > 0) {
-                isChromosomeDominated = true;
-            } else {
+            if (chromosomeB.getObjectiveKey(realObjective) <= this.getObjectiveKey(realObjective)) {
                 return false;
             }
         }
 
-        return isChromosomeDominated;
+        return !objectives.isEmpty();
     }
 
 	@Override
@@ -484,8 +558,11 @@ public class Chromosome implements Cloneable {
 		Chromosome other = (Chromosome) obj;
 		boolean equals = true;
 
-		for (int i = 0; i < other.getMapping().length; i++) {
-			equals = mapping[i] == other.mapping[i] && scheduling[i] == other.scheduling[i];
+		int[] vectors = arena.getVectors();
+		int[] otherVectors = other.arena.getVectors();
+
+		for (int i = 0; i < other.getNumberOfTasks(); i++) {
+			equals = vectors[getMappingOffset() + i] == otherVectors[other.getMappingOffset() + i] && vectors[getSchedulingOffset() + i] == otherVectors[other.getSchedulingOffset() + i];
 
 			if (!equals) {
 				return equals;
@@ -519,29 +596,10 @@ public class Chromosome implements Cloneable {
 		Configuration config = new Configuration();
 
 		Graph graph = Graph.initializeGraph();
-		Chromosome chromosome = new Chromosome(graph);
-
-		chromosome.mapping[0] = 3; 
-		chromosome.mapping[1] = 3;
-		chromosome.mapping[2] = 2;
-		chromosome.mapping[3] = 1;
-		chromosome.mapping[4] = 2;
-		chromosome.mapping[5] = 3;
-		chromosome.mapping[6] = 1;
-		chromosome.mapping[7] = 1;
-		chromosome.mapping[8] = 3;
-
-		chromosome.scheduling[0] = 1; 
-		chromosome.scheduling[1] = 2;
-		chromosome.scheduling[2] = 3;
-		chromosome.scheduling[3] = 4;
-		chromosome.scheduling[4] = 6;
-		chromosome.scheduling[5] = 5;
-		chromosome.scheduling[6] = 7;
-		chromosome.scheduling[7] = 8;
-		chromosome.scheduling[8] = 9;
-
-		chromosome.calculateMetrics(graph, config);
+		int[] mapping = { 3, 3, 2, 1, 2, 3, 1, 1, 3 };
+		int[] scheduling = { 1, 2, 3, 4, 6, 5, 7, 8, 9 };
+
+		Chromosome chromosome = new Chromosome(mapping, scheduling, graph, config);
 		chromosome.printChromosome(config, config.getAlgorithmType());
 	    
 	    Random r = new Random();
@@ -0,0 +1,390 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+//Immutable snapshot of the graph with primitive arrays only, used by the evaluation hot path.
+//The vectors indexed by task do not use the zero index, like the auxiliary vectors of Metrics, and must not be changed by the callers.
+public class CompiledGraph {
+	private final int numberOfVertices;
+	private final int[] computationalCost;
+
+	//Predecessors of the task t are stored in predecessors[predecessorOffsets[t]] until predecessors[predecessorOffsets[t + 1] - 1] (CSR format)
+	private final int[] predecessorOffsets;
+	private final int[] predecessors;
+	private final int[] predecessorCommunicationCosts; //Cost of the edge predecessor -> task, parallel to predecessors
+	private final boolean withCommunicationCost; //False when all the edges cost zero, like the DAGs without communication costs
+
+	//Successors of each task (CSR format), with the cost of the edge task -> successor parallel to successors
+	private final int[] successorOffsets;
+	private final int[] successors;
+	private final int[] successorCommunicationCosts;
+	private final int[] topologicalOrder;
+
+	//Execution time of the task t in the processor p in executionTime[t * taskStride + p * processorStride]. With identical processors,
+	//it is the computational cost (processorStride is zero), so the evaluation reads it with the same single access in both cases
+	private final int[] executionTime;
+	private final int taskStride;
+	private final int processorStride;
+	private final int totalProcessors; //Zero when the processors are identical
+
+	//Earliest start time of each task with unlimited processors, without communication costs and with the fastest processor for each task (lower bound of the start time in any schedule)
+	private final int[] earliestStartTime;
+	private final int criticalPathLength;
+
+	//Structural properties of the tasks, fixed for the graph: they are calculated once, when the graph is compiled
+	private final int[] topologicalLevel; //Number of edges of the longest path from a root task
+	private final double[] meanExecutionTime;
+	private final double[] upwardRank; //Longest path to an exit task, with the execution times and the communication costs
+	private final double[] downwardRank; //Longest path from a root task until the start of the task, with the execution times and the communication costs
+	private final double[] staticBottomLevel; //Longest path to an exit task, with the execution times only
+	private final int[] criticalPath; //Tasks of the longest path with the execution times and the communication costs, from a root task to an exit task
+
+	CompiledGraph(Graph graph) {
+		numberOfVertices = graph.getNumberOfVertices();
+		computationalCost = new int[numberOfVertices + 1];
+		predecessorOffsets = new int[numberOfVertices + 2];
+
+		int totalPredecessors = 0;
+		boolean withCommunicationCost = false;
+
+		for (int task = 1; task <= numberOfVertices; task++) {
+			Vertex vertex = graph.getVertex(task);
+			computationalCost[task] = vertex.getComputationalCost();
+			predecessorOffsets[task] = totalPredecessors;
+
+			if (vertex.getEntries() != null) {
+				totalPredecessors += vertex.getEntries().size();
+			}
+		}
+
+		predecessorOffsets[numberOfVertices + 1] = totalPredecessors;
+		predecessors = new int[totalPredecessors];
+		predecessorCommunicationCosts = new int[totalPredecessors];
+
+		for (int task = 1; task <= numberOfVertices; task++) {
+			Vertex vertex = graph.getVertex(task);
+			List<Integer> entries = vertex.getEntries();
+
+			if (entries == null) {
+				continue;
+			}
+
+			for (int entryIndex = 0; entryIndex < entries.size(); entryIndex++) {
+				int position = predecessorOffsets[task] + entryIndex;
+				Edge entryEdge = vertex.getEntryEdge(entryIndex);
+
+				predecessors[position] = entries.get(entryIndex);
+				//An entry without the respective edge has no cost to be transferred
+				predecessorCommunicationCosts[position] = entryEdge != null ? entryEdge.getCommunicationCost() : 0;
+				withCommunicationCost |= predecessorCommunicationCosts[position] != 0;
+			}
+		}
+
+		this.withCommunicationCost = withCommunicationCost;
+
+		int[][] executionTimeByTask = graph.getExecutionTimeByTask();
+
+		if (executionTimeByTask == null) {
+			executionTime = computationalCost;
+			taskStride = 1;
+			processorStride = 0;
+			totalProcessors = 0;
+		} else {
+			totalProcessors = executionTimeByTask[1].length - 1;
+			taskStride = totalProcessors + 1;
+			processorStride = 1;
+			executionTime = new int[(numberOfVertices + 1) * taskStride];
+
+			for (int task = 1; task <= numberOfVertices; task++) {
+				System.arraycopy(executionTimeByTask[task], 0, executionTime, task * taskStride, taskStride);
+			}
+		}
+
+		successorOffsets = new int[numberOfVertices + 2];
+		successors = new int[totalPredecessors];
+		successorCommunicationCosts = new int[totalPredecessors];
+		calculateSuccessors();
+
+		topologicalOrder = calculateTopologicalOrder();
+
+		earliestStartTime = new int[numberOfVertices + 1];
+		criticalPathLength = calculateEarliestStartTimes();
+
+		topologicalLevel = new int[numberOfVertices + 1];
+		meanExecutionTime = new double[numberOfVertices + 1];
+		upwardRank = new double[numberOfVertices + 1];
+		downwardRank = new double[numberOfVertices + 1];
+		staticBottomLevel = new double[numberOfVertices + 1];
+		calculateRanks();
+
+		criticalPath = calculateCriticalPath();
+	}
+
+	//Successors of the task t in successors[successorOffsets[t]] until successors[successorOffsets[t + 1] - 1], like the predecessors
+	private void calculateSuccessors() {
+		for (int position = 0; position < predecessors.length; position++) {
+			successorOffsets[predecessors[position] + 1]++;
+		}
+
+		for (int task = 1; task <= numberOfVertices + 1; task++) {
+			successorOffsets[task] += successorOffsets[task - 1];
+		}
+
+		int[] nextSuccessorPosition = successorOffsets.clone();
+
+		for (int task = 1; task <= numberOfVertices; task++) {
+			for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+				int successorPosition = nextSuccessorPosition[predecessors[position]]++;
+
+				successors[successorPosition] = task;
+				successorCommunicationCosts[successorPosition] = predecessorCommunicationCosts[position];
+			}
+		}
+	}
+
+	//Kahn algorithm: a task is only visited after all its predecessors
+	private int[] calculateTopologicalOrder() {
+		int[] totalPredecessorsNotVisited = new int[numberOfVertices + 1];
+		int[] tasksToVisit = new int[numberOfVertices];
+		int totalTasksToVisit = 0;
+
+		for (int task = 1; task <= numberOfVertices; task++) {
+			totalPredecessorsNotVisited[task] = getTotalPredecessors(task);
+
+			if (totalPredecessorsNotVisited[task] == 0) {
+				tasksToVisit[totalTasksToVisit++] = task;
+			}
+		}
+
+		for (int visitIndex = 0; visitIndex < totalTasksToVisit; visitIndex++) {
+			int task = tasksToVisit[visitIndex];
+
+			for (int position = successorOffsets[task]; position < successorOffsets[task + 1]; position++) {
+				if (--totalPredecessorsNotVisited[successors[position]] == 0) {
+					tasksToVisit[totalTasksToVisit++] = successors[position];
+				}
+			}
+		}
+
+		return totalTasksToVisit == numberOfVertices ? tasksToVisit : Arrays.copyOf(tasksToVisit, totalTasksToVisit);
+	}
+
+	//The tasks are visited in topological order, so all the predecessors of a task are calculated before it
+	private int calculateEarliestStartTimes() {
+		int longestPath = 0;
+
+		for (int task : topologicalOrder) {
+			int earliestFinalTime = earliestStartTime[task] + getMinimumExecutionTime(task);
+			longestPath = Integer.max(longestPath, earliestFinalTime);
+
+			for (int position = successorOffsets[task]; position < successorOffsets[task + 1]; position++) {
+				earliestStartTime[successors[position]] = Integer.max(earliestStartTime[successors[position]], earliestFinalTime);
+			}
+		}
+
+		return longestPath;
+	}
+
+	//Ranks of HEFT, with the mean execution time of the task in the processors and the cost of the edges as the mean communication cost
+	private void calculateRanks() {
+		for (int task = 1; task <= numberOfVertices; task++) {
+			meanExecutionTime[task] = calculateMeanExecutionTime(task);
+		}
+
+		for (int task : topologicalOrder) {
+			for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+				int predecessor = predecessors[position];
+
+				topologicalLevel[task] = Integer.max(topologicalLevel[task], topologicalLevel[predecessor] + 1);
+				downwardRank[task] = Double.max(downwardRank[task], downwardRank[predecessor] + meanExecutionTime[predecessor] + predecessorCommunicationCosts[position]);
+			}
+		}
+
+		for (int visitIndex = topologicalOrder.length - 1; visitIndex >= 0; visitIndex--) {
+			int task = topologicalOrder[visitIndex];
+			double maxUpwardRankOfSuccessors = 0.0;
+			double maxStaticBottomLevelOfSuccessors = 0.0;
+
+			for (int position = successorOffsets[task]; position < successorOffsets[task + 1]; position++) {
+				int successor = successors[position];
+
+				maxUpwardRankOfSuccessors = Double.max(maxUpwardRankOfSuccessors, successorCommunicationCosts[position] + upwardRank[successor]);
+				maxStaticBottomLevelOfSuccessors = Double.max(maxStaticBottomLevelOfSuccessors, staticBottomLevel[successor]);
+			}
+
+			upwardRank[task] = meanExecutionTime[task] + maxUpwardRankOfSuccessors;
+			staticBottomLevel[task] = meanExecutionTime[task] + maxStaticBottomLevelOfSuccessors;
+		}
+	}
+
+	//From the root task with the greatest upward rank, follows the successor that defines the upward rank of each task until an exit task
+	private int[] calculateCriticalPath() {
+		int task = 0;
+
+		for (int root : topologicalOrder) {
+			if (getTotalPredecessors(root) == 0 && (task == 0 || upwardRank[root] > upwardRank[task])) {
+				task = root;
+			}
+		}
+
+		int[] path = new int[numberOfVertices];
+		int pathLength = 0;
+
+		while (task != 0) {
+			path[pathLength++] = task;
+
+			int nextTask = 0;
+			double maxUpwardRankOfSuccessors = -1.0;
+
+			for (int position = successorOffsets[task]; position < successorOffsets[task + 1]; position++) {
+				double upwardRankOfSuccessor = successorCommunicationCosts[position] + upwardRank[successors[position]];
+
+				if (upwardRankOfSuccessor > maxUpwardRankOfSuccessors) {
+					maxUpwardRankOfSuccessors = upwardRankOfSuccessor;
+					nextTask = successors[position];
+				}
+			}
+
+			task = nextTask;
+		}
+
+		return Arrays.copyOf(path, pathLength);
+	}
+
+	private double calculateMeanExecutionTime(int task) {
+		if (isWithIdenticalProcessors()) {
+			return computationalCost[task];
+		}
+
+		double totalExecutionTime = 0.0;
+
+		for (int processor = 1; processor <= totalProcessors; processor++) {
+			totalExecutionTime += getExecutionTime(task, processor);
+		}
+
+		return totalExecutionTime / totalProcessors;
+	}
+
+	public int getNumberOfVertices() {
+		return numberOfVertices;
+	}
+
+	public int getComputationalCost(int task) {
+		return computationalCost[task];
+	}
+
+	public int[] getComputationalCosts() {
+		return computationalCost;
+	}
+
+	public int[] getPredecessorOffsets() {
+		return predecessorOffsets;
+	}
+
+	public int[] getPredecessors() {
+		return predecessors;
+	}
+
+	public int[] getPredecessorCommunicationCosts() {
+		return predecessorCommunicationCosts;
+	}
+
+	public int[] getExecutionTimes() {
+		return executionTime;
+	}
+
+	public int getExecutionTimeIndex(int task, int processor) {
+		return task * taskStride + processor * processorStride;
+	}
+
+	public int getExecutionTime(int task, int processor) {
+		return executionTime[getExecutionTimeIndex(task, processor)];
+	}
+
+	public boolean isWithIdenticalProcessors() {
+		return totalProcessors == 0;
+	}
+
+	//The execution times are only valid for the number of processors of the file or of the speed factors
+	public void validateTotalProcessors(int totalProcessors) {
+		if (!isWithIdenticalProcessors() && this.totalProcessors != totalProcessors) {
+			throw new IllegalArgumentException("The execution times of the graph are for " + this.totalProcessors + " processors. Processors informed: " + totalProcessors + ".");
+		}
+	}
+
+	private int getMinimumExecutionTime(int task) {
+		if (isWithIdenticalProcessors()) {
+			return computationalCost[task];
+		}
+
+		int minimumExecutionTime = Integer.MAX_VALUE;
+
+		for (int processor = 1; processor <= totalProcessors; processor++) {
+			minimumExecutionTime = Integer.min(minimumExecutionTime, getExecutionTime(task, processor));
+		}
+
+		return minimumExecutionTime;
+	}
+
+	public boolean isWithCommunicationCost() {
+		return withCommunicationCost;
+	}
+
+	public int[] getEarliestStartTimes() {
+		return earliestStartTime;
+	}
+
+	public int getCriticalPathLength() {
+		return criticalPathLength;
+	}
+
+	public int[] getSuccessorOffsets() {
+		return successorOffsets;
+	}
+
+	public int[] getSuccessors() {
+		return successors;
+	}
+
+	public int[] getSuccessorCommunicationCosts() {
+		return successorCommunicationCosts;
+	}
+
+	public int getTotalSuccessors(int task) {
+		return successorOffsets[task + 1] - successorOffsets[task];
+	}
+
+	//Has all the tasks when the graph has no cycle
+	public int[] getTopologicalOrder() {
+		return topologicalOrder;
+	}
+
+	public int[] getTopologicalLevels() {
+		return topologicalLevel;
+	}
+
+	public double[] getMeanExecutionTimes() {
+		return meanExecutionTime;
+	}
+
+	public double[] getUpwardRanks() {
+		return upwardRank;
+	}
+
+	public double[] getDownwardRanks() {
+		return downwardRank;
+	}
+
+	public double[] getStaticBottomLevels() {
+		return staticBottomLevel;
+	}
+
+	public int[] getCriticalPath() {
+		return criticalPath;
+	}
+
+	public int getTotalPredecessors(int task) {
+		return predecessorOffsets[task + 1] - predecessorOffsets[task];
+	}
+}
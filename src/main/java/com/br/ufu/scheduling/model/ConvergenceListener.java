@@ -0,0 +1,9 @@
+package com.br.ufu.scheduling.model;
+
+import com.br.ufu.scheduling.enums.MetricType;
+
+//Notified by the evaluator when the convergence for the best solution is enabled and a chromosome just simulated (not restored from the fitness cache)
+//has an objective better than the best value known (Constants). It is called during the evaluation, so it must only record the chromosome.
+public interface ConvergenceListener {
+	void betterChromosomeFound(Chromosome chromosome, MetricType metricType);
+}
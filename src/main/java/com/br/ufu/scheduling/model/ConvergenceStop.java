@@ -0,0 +1,53 @@
+package com.br.ufu.scheduling.model;
+
+import com.br.ufu.scheduling.enums.MetricType;
+import com.br.ufu.scheduling.utils.Printer;
+import com.br.ufu.scheduling.utils.Utils;
+
+//Listener of the algorithms: keeps the first better chromosome found and requests the stop, checked by the algorithm at the end of the generation
+public class ConvergenceStop implements ConvergenceListener {
+	private Chromosome betterChromosome;
+	private MetricType metricType;
+
+	@Override
+	public void betterChromosomeFound(Chromosome chromosome, MetricType metricType) {
+		if (betterChromosome != null) {
+			return;
+		}
+
+		try {
+			//The chromosome can still be changed by the algorithm (e.g. a child mutated after the evaluation)
+			this.betterChromosome = (Chromosome) chromosome.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+
+		this.metricType = metricType;
+	}
+
+	public boolean isStopRequested() {
+		return betterChromosome != null;
+	}
+
+	public Chromosome getBetterChromosome() {
+		return betterChromosome;
+	}
+
+	public MetricType getMetricType() {
+		return metricType;
+	}
+
+	public void reset() {
+		betterChromosome = null;
+		metricType = null;
+	}
+
+	public void printBetterChromosomeFound() {
+		if (betterChromosome == null) {
+			return;
+		}
+
+		Printer.printBetterChromosomeFound(betterChromosome);
+		System.out.println("We found a better chromosome than the last one found. " + Utils.getObjectiveName(metricType.ordinal()) + ": " + betterChromosome.getRealObjectiveValue(metricType.ordinal()) + ".");
+	}
+}
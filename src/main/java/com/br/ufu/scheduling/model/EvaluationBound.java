@@ -0,0 +1,8 @@
+package com.br.ufu.scheduling.model;
+
+//Decides, during the simulation, if a chromosome can already be rejected by the lower bounds of its objectives.
+//The values informed are never greater than the final ones: makespan and flow time consider the tasks not simulated yet without communication costs or idle times,
+//the communication cost is the exact one of the mapping and the waiting time is the partial one. The load balance has no bound.
+public interface EvaluationBound {
+	boolean isRejected(int makespan, int flowTime, int communicationCost, int waitingTime);
+}
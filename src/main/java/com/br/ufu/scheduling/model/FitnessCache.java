@@ -0,0 +1,152 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.br.ufu.scheduling.enums.DecoderType;
+import com.br.ufu.scheduling.utils.Configuration;
+
+//Bounded cache (least recently used) of the objective values by the fingerprint of the chromosome vectors, to avoid simulating the same chromosome again.
+//The vectors are kept in the cache (copied, or by the timeline) to confirm a hit, so a fingerprint collision never changes the result.
+//Like the evaluator, there is one cache for each thread: use getInstance().
+public class FitnessCache {
+	private static final ThreadLocal<FitnessCache> CACHE_BY_THREAD = ThreadLocal.withInitial(FitnessCache::new);
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private Map<Long, CachedEvaluation> cachedEvaluationByFingerprint = new LinkedHashMap<>();
+	private int capacity;
+
+	//The values cached are only valid for the graph, the number of processors and the decoder used to calculate them
+	private CompiledGraph compiledGraph;
+	private int totalProcessors;
+	private DecoderType decoderType;
+
+	private long hits;
+	private long misses;
+
+	public static FitnessCache getInstance() {
+		return CACHE_BY_THREAD.get();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public void clear() {
+		cachedEvaluationByFingerprint.clear();
+		hits = 0;
+		misses = 0;
+	}
+
+	//Returns the evaluation cached for the chromosome, or null when it is not in the cache
+	CachedEvaluation restore(CompiledGraph compiledGraph, int[] mapping, int[] scheduling, Configuration config) {
+		if (!isEnabled(compiledGraph, config)) {
+			return null;
+		}
+
+		CachedEvaluation cachedEvaluation = cachedEvaluationByFingerprint.get(calculateFingerprint(mapping, scheduling));
+
+		if (cachedEvaluation == null || !cachedEvaluation.isCachedEvaluationOf(mapping, scheduling)) {
+			misses++;
+			return null;
+		}
+
+		hits++;
+
+		return cachedEvaluation;
+	}
+
+	void store(CompiledGraph compiledGraph, int[] mapping, int[] scheduling, Configuration config, ObjectiveRecord record, ScheduleTimeline timeline, TaskCopies taskCopies) {
+		if (isEnabled(compiledGraph, config)) {
+			cachedEvaluationByFingerprint.put(calculateFingerprint(mapping, scheduling), new CachedEvaluation(mapping, scheduling, record, timeline, taskCopies));
+		}
+	}
+
+	private boolean isEnabled(CompiledGraph compiledGraph, Configuration config) {
+		if (config.getFitnessCacheSize() <= 0) {
+			return false;
+		}
+
+		if (this.compiledGraph != compiledGraph || totalProcessors != config.getTotalProcessors() || decoderType != config.getDecoderType() || capacity != config.getFitnessCacheSize()) {
+			reset(compiledGraph, config);
+		}
+
+		return true;
+	}
+
+	private void reset(CompiledGraph compiledGraph, Configuration config) {
+		this.compiledGraph = compiledGraph;
+		this.totalProcessors = config.getTotalProcessors();
+		this.decoderType = config.getDecoderType();
+		this.capacity = config.getFitnessCacheSize();
+
+		cachedEvaluationByFingerprint = new LinkedHashMap<Long, CachedEvaluation>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, CachedEvaluation> eldest) {
+				return size() > capacity;
+			}
+		};
+
+		hits = 0;
+		misses = 0;
+	}
+
+	//FNV-1a hash of the vectors
+	private static long calculateFingerprint(int[] mapping, int[] scheduling) {
+		long fingerprint = FNV_OFFSET_BASIS;
+
+		for (int i = 0; i < mapping.length; i++) {
+			fingerprint = (fingerprint ^ mapping[i]) * FNV_PRIME;
+			fingerprint = (fingerprint ^ scheduling[i]) * FNV_PRIME;
+		}
+
+		return fingerprint;
+	}
+
+	static class CachedEvaluation {
+		//Only copied when there is no timeline: the timeline already keeps the vectors of the chromosome
+		private final int[] mapping;
+		private final int[] scheduling;
+
+		private final ObjectiveRecord record;
+		private final ScheduleTimeline timeline;
+		private final TaskCopies taskCopies;
+
+		private CachedEvaluation(int[] mapping, int[] scheduling, ObjectiveRecord record, ScheduleTimeline timeline, TaskCopies taskCopies) {
+			this.record = record;
+			this.timeline = timeline;
+			this.taskCopies = taskCopies;
+			this.mapping = timeline == null ? mapping.clone() : null;
+			this.scheduling = timeline == null ? scheduling.clone() : null;
+		}
+
+		ObjectiveRecord getRecord() {
+			return record;
+		}
+
+		ScheduleTimeline getTimeline() {
+			return timeline;
+		}
+
+		TaskCopies getTaskCopies() {
+			return taskCopies;
+		}
+
+		private boolean isCachedEvaluationOf(int[] mapping, int[] scheduling) {
+			if (timeline != null) {
+				return timeline.isTimelineOf(mapping, scheduling);
+			}
+
+			return Arrays.equals(this.mapping, mapping) && Arrays.equals(this.scheduling, scheduling);
+		}
+	}
+}
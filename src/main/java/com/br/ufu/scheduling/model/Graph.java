@@ -18,6 +18,8 @@ public class Graph {
     private Map<Integer, Vertex> vertices;
     private List<Edge> edges;
     private int firstTask;
+    private CompiledGraph compiledGraph;
+    private int[][] executionTimeByTask; //[task][processor], without the zero indexes. Null when the processors are identical
 
     private Graph() {
         vertices = new HashMap<Integer, Vertex>();
@@ -51,13 +53,16 @@ public class Graph {
     public Vertex addVertex(int task, int computationalCost) {
         Vertex vertice = new Vertex(task, computationalCost);
         vertices.put(task, vertice);
+        compiledGraph = null;
         return vertice;
     }
 
     public Edge addEdge(Vertex source, Vertex destination, int communicationCost) {
         Edge edge = new Edge(source, destination, communicationCost);
         source.addAdjacency(edge);
+        destination.addEntryEdge(edge);
         edges.add(edge);
+        compiledGraph = null;
         return edge;
     }
 
@@ -65,12 +70,131 @@ public class Graph {
     	return vertices.size();
     }
 
+    public int[][] getExecutionTimeByTask() {
+        return executionTimeByTask;
+    }
+
+    //Execution time of each task in each processor ([task][processor], without the zero indexes), or null when the processors are identical
+    public void setExecutionTimeByTask(int[][] executionTimeByTask) {
+        if (executionTimeByTask != null) {
+            if (executionTimeByTask.length != getNumberOfVertices() + 1) {
+                throw new IllegalArgumentException("The execution times must be informed for " + getNumberOfVertices() + " tasks. Tasks informed: " + (executionTimeByTask.length - 1) + ".");
+            }
+
+            for (int task = 1; task <= getNumberOfVertices(); task++) {
+                if (executionTimeByTask[task].length != executionTimeByTask[1].length) {
+                    throw new IllegalArgumentException("The task " + task + " has execution times for " + (executionTimeByTask[task].length - 1) + " processors. Expected: " + (executionTimeByTask[1].length - 1) + ".");
+                }
+            }
+        }
+
+        this.executionTimeByTask = executionTimeByTask;
+        compiledGraph = null;
+    }
+
+    //The compiled graph is built on the first use, after the graph has been completely loaded
+    public CompiledGraph getCompiledGraph() {
+        if (compiledGraph == null) {
+            compiledGraph = new CompiledGraph(this);
+        }
+
+        return compiledGraph;
+    }
+
     public static Graph initializeGraph(Configuration config) throws Exception {
-    	if (config.isGraphWithCommunicationCost()) {
-    		return initializeGraphWithCommunicationCost(config);
+    	Graph graph = null;
+
+    	if (Constants.USE_DEFAULT_GRAPH.equals(config.getTaskGraphFileName())) {
+    		graph = initializeGraph();
+    	} else if (config.isGraphWithCommunicationCost()) {
+    		graph = initializeGraphWithCommunicationCost(config);
     	} else {
-    		return initializeGraphWithoutCommunicationCost(config);
+    		graph = initializeGraphWithoutCommunicationCost(config);
     	}
+
+    	initializeExecutionTimes(graph, config);
+
+    	return graph;
+    }
+
+    private static void initializeExecutionTimes(Graph graph, Configuration config) throws Exception {
+        boolean withSpeedFactors = !Constants.IDENTICAL_PROCESSORS.equals(config.getProcessorSpeedFactors());
+        boolean withExecutionTimeFile = !Constants.IDENTICAL_PROCESSORS.equals(config.getExecutionTimeFileName());
+
+        if (withSpeedFactors && withExecutionTimeFile) {
+            throw new IllegalArgumentException("Inform the speed factors of the processors or the file with the execution times, not both.");
+        }
+
+        if (withSpeedFactors) {
+            graph.setExecutionTimeByTask(calculateExecutionTimesBySpeedFactors(graph, config));
+        } else if (withExecutionTimeFile) {
+            graph.setExecutionTimeByTask(readExecutionTimes(graph, config));
+        }
+    }
+
+    private static int[][] calculateExecutionTimesBySpeedFactors(Graph graph, Configuration config) {
+        String[] speedFactors = config.getProcessorSpeedFactors().split(",");
+
+        if (speedFactors.length != config.getTotalProcessors()) {
+            throw new IllegalArgumentException("The number of speed factors (" + speedFactors.length + ") is different from the number of processors (" + config.getTotalProcessors() + ").");
+        }
+
+        int[][] executionTimeByTask = new int[graph.getNumberOfVertices() + 1][config.getTotalProcessors() + 1];
+
+        for (int processor = 1; processor <= config.getTotalProcessors(); processor++) {
+            double speedFactor = Double.parseDouble(speedFactors[processor - 1].trim());
+
+            if (speedFactor <= 0.0) {
+                throw new IllegalArgumentException("Invalid speed factor of the processor " + processor + ": " + speedFactor + ". The speed factor must be greater than zero.");
+            }
+
+            for (int task = 1; task <= graph.getNumberOfVertices(); task++) {
+                executionTimeByTask[task][processor] = (int) Math.ceil(graph.getVertex(task).getComputationalCost() / speedFactor);
+            }
+        }
+
+        return executionTimeByTask;
+    }
+
+    private static int[][] readExecutionTimes(Graph graph, Configuration config) throws Exception {
+        Class<?> loader = config.isGraphWithCommunicationCost() ? LoaderDagWithCost.class : LoaderDagWithoutCost.class;
+        String packagePath = config.isGraphWithCommunicationCost() ? Constants.PACKAGE_DAG_WITH_COST : Constants.PACKAGE_DAG_WITHOUT_COST;
+        int[][] executionTimeByTask = new int[graph.getNumberOfVertices() + 1][];
+
+        try (BufferedReader buffer = new BufferedReader(new InputStreamReader(loader.getClassLoader().getResourceAsStream(packagePath + config.getExecutionTimeFileName())))) {
+            String line = null;
+            int task = 0;
+
+            while ((line = buffer.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("#")) continue;
+
+                if (++task > graph.getNumberOfVertices()) {
+                    throw new IllegalArgumentException("The file has more lines than the " + graph.getNumberOfVertices() + " tasks of the graph.");
+                }
+
+                String[] vector = line.trim().split("\\s+");
+
+                if (vector.length != config.getTotalProcessors()) {
+                    throw new IllegalArgumentException("The task " + task + " has " + vector.length + " execution times. Expected one for each one of the " + config.getTotalProcessors() + " processors.");
+                }
+
+                executionTimeByTask[task] = new int[config.getTotalProcessors() + 1];
+
+                for (int processor = 1; processor <= config.getTotalProcessors(); processor++) {
+                    executionTimeByTask[task][processor] = Integer.parseInt(vector[processor - 1]);
+                }
+            }
+
+            if (task != graph.getNumberOfVertices()) {
+                throw new IllegalArgumentException("The file has execution times for " + task + " tasks. Expected: " + graph.getNumberOfVertices() + ".");
+            }
+        } catch (Exception e) {
+            Exception e2 = new Exception("Error loading " + config.getExecutionTimeFileName() + " execution time file: " + e.getMessage());
+            e2.initCause(e);
+            throw e2;
+        }
+
+        return executionTimeByTask;
     }
 
     private static Graph initializeGraphWithCommunicationCost(Configuration config) throws Exception {
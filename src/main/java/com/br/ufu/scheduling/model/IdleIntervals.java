@@ -0,0 +1,192 @@
+package com.br.ufu.scheduling.model;
+
+//Idle intervals of one processor (start -> end, the end is not included), sorted by the start time.
+//The idle time after the readiness time of the processor is not kept: a task placed there is appended.
+//The intervals are kept in a treap by the start time, where each node also keeps the longest interval of its subtree,
+//so the first interval long enough for a task is found without visiting the shorter ones: an insertion is logarithmic (expected).
+class IdleIntervals {
+	private Interval root;
+	private int seed = 0x9E3779B9; //Priorities of the treap, from a fixed seed so the shape does not change between executions
+
+	//Parts of the last split
+	private Interval lowerPart;
+	private Interval upperPart;
+
+	void clear() {
+		root = null;
+	}
+
+	//Returns the earliest start time of the task in an idle interval, from the data arrival time, or the start time after the readiness time when no interval fits.
+	//The interval used is split in the idle parts that remain before and after the task.
+	int insert(int readinessTime, int dat, int computationalCost) {
+		Interval interval = findFloor(dat);
+
+		//The interval that contains the data arrival time is the only one where the task can start after the start of the interval
+		if (interval == null || Integer.max(interval.start, dat) + computationalCost > interval.end) {
+			interval = findFirstFitting(root, dat, computationalCost);
+		}
+
+		if (interval == null) {
+			int startTime = Integer.max(readinessTime, dat);
+
+			if (startTime > readinessTime) {
+				add(readinessTime, startTime);
+			}
+
+			return startTime;
+		}
+
+		int intervalStart = interval.start;
+		int intervalEnd = interval.end;
+		int startTime = Integer.max(intervalStart, dat);
+
+		remove(intervalStart);
+
+		if (intervalStart < startTime) {
+			add(intervalStart, startTime);
+		}
+
+		if (startTime + computationalCost < intervalEnd) {
+			add(startTime + computationalCost, intervalEnd);
+		}
+
+		return startTime;
+	}
+
+	//Interval with the greatest start not after the time informed
+	private Interval findFloor(int time) {
+		Interval floor = null;
+		Interval node = root;
+
+		while (node != null) {
+			if (node.start <= time) {
+				floor = node;
+				node = node.right;
+			} else {
+				node = node.left;
+			}
+		}
+
+		return floor;
+	}
+
+	//Interval with the lowest start after the time informed among the ones with at least the length informed
+	private Interval findFirstFitting(Interval node, int time, int length) {
+		if (node == null || node.longestLength < length) {
+			return null;
+		}
+
+		if (node.start > time) {
+			Interval interval = findFirstFitting(node.left, time, length);
+
+			if (interval != null) {
+				return interval;
+			}
+
+			if (node.getLength() >= length) {
+				return node;
+			}
+		}
+
+		return findFirstFitting(node.right, time, length);
+	}
+
+	private void add(int start, int end) {
+		split(root, start);
+		Interval lower = lowerPart;
+		Interval upper = upperPart;
+
+		root = merge(merge(lower, new Interval(start, end, nextPriority())), upper);
+	}
+
+	private void remove(int start) {
+		split(root, start);
+		Interval lower = lowerPart;
+
+		split(upperPart, start + 1);
+		root = merge(lower, upperPart);
+	}
+
+	//lowerPart receives the intervals that start before the key and upperPart the other ones
+	private void split(Interval node, int key) {
+		if (node == null) {
+			lowerPart = null;
+			upperPart = null;
+			return;
+		}
+
+		if (node.start < key) {
+			split(node.right, key);
+			node.right = lowerPart;
+			node.update();
+			lowerPart = node;
+		} else {
+			split(node.left, key);
+			node.left = upperPart;
+			node.update();
+			upperPart = node;
+		}
+	}
+
+	//All the intervals of lower start before the ones of upper
+	private Interval merge(Interval lower, Interval upper) {
+		if (lower == null) {
+			return upper;
+		}
+
+		if (upper == null) {
+			return lower;
+		}
+
+		if (lower.priority > upper.priority) {
+			lower.right = merge(lower.right, upper);
+			lower.update();
+			return lower;
+		}
+
+		upper.left = merge(lower, upper.left);
+		upper.update();
+		return upper;
+	}
+
+	//Xorshift
+	private int nextPriority() {
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		return seed;
+	}
+
+	private static class Interval {
+		private final int start;
+		private final int end;
+		private final int priority;
+		private int longestLength; //Longest interval of the subtree
+
+		private Interval left;
+		private Interval right;
+
+		private Interval(int start, int end, int priority) {
+			this.start = start;
+			this.end = end;
+			this.priority = priority;
+			this.longestLength = end - start;
+		}
+
+		private int getLength() {
+			return end - start;
+		}
+
+		private void update() {
+			longestLength = getLength();
+
+			if (left != null && left.longestLength > longestLength) {
+				longestLength = left.longestLength;
+			}
+
+			if (right != null && right.longestLength > longestLength) {
+				longestLength = right.longestLength;
+			}
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.br.ufu.scheduling.utils.Configuration;
+
+//Simulates several mapping vectors that share the same scheduling vector at the same time, one lane for each mapping.
+//The vectors are kept as structure of arrays (the value of the lane l for the task t is in vector[t * totalLanes + l]),
+//so each step of the simulation runs over contiguous positions for all the lanes.
+//Like ScheduleEvaluator, there is one evaluator for each thread: use getInstance().
+public class MultiLaneEvaluator {
+	private static final ThreadLocal<MultiLaneEvaluator> EVALUATOR_BY_THREAD = ThreadLocal.withInitial(MultiLaneEvaluator::new);
+
+	private int totalLanes;
+
+	//Indexed by task * totalLanes + lane (without the zero index for the tasks, like the other auxiliary vectors)
+	private int[] processorTask = new int[0];
+	private int[] startTimeTask = new int[0];
+	private int[] finalTimeTask = new int[0];
+	private int[] communicationCostTask = new int[0];
+	private int[] waitingTimeTask = new int[0];
+
+	//Indexed by processor * totalLanes + lane
+	private int[] readinessTime = new int[0];
+
+	//Indexed by lane
+	private int[] dat = new int[0];
+	private int[] maxRuntimePredecessors = new int[0];
+	private int[] communicationCostOfTask = new int[0];
+	private int[] totalReadinessTime = new int[0];
+	private int[] makespan = new int[0];
+	private int[] flowTime = new int[0];
+	private int[] communicationCost = new int[0];
+	private int[] waitingTime = new int[0];
+
+	public static MultiLaneEvaluator getInstance() {
+		return EVALUATOR_BY_THREAD.get();
+	}
+
+	//Simulates mappings[firstMapping] until mappings[firstMapping + totalLanes - 1] with the scheduling vector informed
+	public void evaluate(CompiledGraph compiledGraph, int[] scheduling, int[][] mappings, int firstMapping, int totalLanes, Configuration config) {
+		if (totalLanes < 1 || firstMapping < 0 || firstMapping + totalLanes > mappings.length) {
+			throw new IllegalArgumentException("Invalid lanes. First mapping: " + firstMapping + ". Total lanes: " + totalLanes + ". Total mappings: " + mappings.length + ".");
+		}
+
+		int numberOfVertices = compiledGraph.getNumberOfVertices();
+
+		prepareVectors(numberOfVertices, config.getTotalProcessors(), totalLanes);
+
+		for (int lane = 0; lane < totalLanes; lane++) {
+			int[] mapping = mappings[firstMapping + lane];
+
+			for (int task = 1; task <= numberOfVertices; task++) {
+				processorTask[task * totalLanes + lane] = mapping[task - 1];
+			}
+		}
+
+		simulate(compiledGraph, scheduling, 0, config);
+	}
+
+	//Simulates the chromosomes from firstChromosome, which have the scheduling vector of the first one, reading the vectors from their slots of the VectorArena
+	void evaluate(CompiledGraph compiledGraph, List<Chromosome> chromosomes, int firstChromosome, int totalLanes, Configuration config) {
+		if (totalLanes < 1 || firstChromosome < 0 || firstChromosome + totalLanes > chromosomes.size()) {
+			throw new IllegalArgumentException("Invalid lanes. First chromosome: " + firstChromosome + ". Total lanes: " + totalLanes + ". Total chromosomes: " + chromosomes.size() + ".");
+		}
+
+		int numberOfVertices = compiledGraph.getNumberOfVertices();
+
+		prepareVectors(numberOfVertices, config.getTotalProcessors(), totalLanes);
+
+		for (int lane = 0; lane < totalLanes; lane++) {
+			Chromosome chromosome = chromosomes.get(firstChromosome + lane);
+			int[] vectors = chromosome.getVectors();
+			int mappingOffset = chromosome.getMappingOffset();
+
+			for (int task = 1; task <= numberOfVertices; task++) {
+				processorTask[task * totalLanes + lane] = vectors[mappingOffset + task - 1];
+			}
+		}
+
+		Chromosome firstOfLanes = chromosomes.get(firstChromosome);
+		simulate(compiledGraph, firstOfLanes.getVectors(), firstOfLanes.getSchedulingOffset(), config);
+	}
+
+	//The scheduling vector is in the positions [schedulingOffset, schedulingOffset + number of vertices) of the vector informed
+	private void simulate(CompiledGraph compiledGraph, int[] scheduling, int schedulingOffset, Configuration config) {
+		int numberOfVertices = compiledGraph.getNumberOfVertices();
+
+		compiledGraph.validateTotalProcessors(config.getTotalProcessors());
+
+		int[] executionTime = compiledGraph.getExecutionTimes();
+		int[] predecessorOffsets = compiledGraph.getPredecessorOffsets();
+		int[] predecessors = compiledGraph.getPredecessors();
+		int[] predecessorCommunicationCosts = compiledGraph.getPredecessorCommunicationCosts();
+		boolean withCommunicationCost = compiledGraph.isWithCommunicationCost();
+
+		for (int taskIndex = 0; taskIndex < numberOfVertices; taskIndex++) {
+			int task = scheduling[schedulingOffset + taskIndex];
+			int taskPosition = task * totalLanes;
+
+			Arrays.fill(dat, 0, totalLanes, 0);
+			Arrays.fill(maxRuntimePredecessors, 0, totalLanes, 0);
+			Arrays.fill(communicationCostOfTask, 0, totalLanes, 0);
+
+			if (withCommunicationCost) {
+				for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+					int entryPosition = predecessors[position] * totalLanes;
+					int edgeCost = predecessorCommunicationCosts[position];
+
+					for (int lane = 0; lane < totalLanes; lane++) {
+						int resultCost = finalTimeTask[entryPosition + lane];
+
+						if (maxRuntimePredecessors[lane] < resultCost) {
+							maxRuntimePredecessors[lane] = resultCost;
+						}
+
+						if (edgeCost > 0 && processorTask[taskPosition + lane] != processorTask[entryPosition + lane]) {
+							communicationCostOfTask[lane] += edgeCost;
+							resultCost += edgeCost;
+						}
+
+						if (dat[lane] < resultCost) {
+							dat[lane] = resultCost;
+						}
+					}
+				}
+			} else {
+				//Without communication costs, the data arrive when the last predecessor finishes, in any processor
+				for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+					int entryPosition = predecessors[position] * totalLanes;
+
+					for (int lane = 0; lane < totalLanes; lane++) {
+						maxRuntimePredecessors[lane] = Integer.max(maxRuntimePredecessors[lane], finalTimeTask[entryPosition + lane]);
+					}
+				}
+
+				System.arraycopy(maxRuntimePredecessors, 0, dat, 0, totalLanes);
+			}
+
+			boolean hasPredecessors = predecessorOffsets[task] < predecessorOffsets[task + 1];
+
+			for (int lane = 0; lane < totalLanes; lane++) {
+				int processor = processorTask[taskPosition + lane];
+				int processorPosition = processor * totalLanes + lane;
+				int startTime = Integer.max(readinessTime[processorPosition], dat[lane]);
+				int finalTime = startTime + executionTime[compiledGraph.getExecutionTimeIndex(task, processor)];
+
+				startTimeTask[taskPosition + lane] = startTime;
+				finalTimeTask[taskPosition + lane] = finalTime;
+
+				totalReadinessTime[lane] += finalTime - readinessTime[processorPosition];
+				readinessTime[processorPosition] = finalTime;
+
+				makespan[lane] = Integer.max(makespan[lane], finalTime);
+				flowTime[lane] += finalTime;
+
+				communicationCostTask[taskPosition + lane] = communicationCostOfTask[lane];
+				communicationCost[lane] += communicationCostOfTask[lane];
+
+				//The root tasks do not wait for any predecessor
+				int waitingTimeOfTask = hasPredecessors && startTime > maxRuntimePredecessors[lane] ? startTime - maxRuntimePredecessors[lane] : 0;
+				waitingTimeTask[taskPosition + lane] = waitingTimeOfTask;
+				waitingTime[lane] += waitingTimeOfTask;
+			}
+		}
+	}
+
+	//Objective values of the lane of the last evaluation
+	ObjectiveRecord getObjectiveRecord(int lane, Configuration config) {
+		long scaledLoadBalance = ObjectiveRecord.calculateScaledLoadBalance(makespan[lane], totalReadinessTime[lane], config.getTotalProcessors());
+
+		return ObjectiveRecord.of(makespan[lane], scaledLoadBalance, flowTime[lane], communicationCost[lane], waitingTime[lane]);
+	}
+
+	//Timeline of the lane of the last evaluation (the multi-lane evaluator does not duplicate tasks)
+	ScheduleTimeline buildTimeline(int lane, Chromosome chromosome) {
+		return new ScheduleTimeline(chromosome.copyMapping(), chromosome.copyScheduling(), getLane(startTimeTask, lane), getLane(finalTimeTask, lane), getLane(communicationCostTask, lane), getLane(waitingTimeTask, lane), TaskCopies.WITHOUT_COPIES);
+	}
+
+	private int[] getLane(int[] vector, int lane) {
+		int[] vectorOfLane = new int[vector.length / totalLanes];
+
+		for (int task = 1; task < vectorOfLane.length; task++) {
+			vectorOfLane[task] = vector[task * totalLanes + lane];
+		}
+
+		return vectorOfLane;
+	}
+
+	private void prepareVectors(int numberOfVertices, int totalProcessors, int totalLanes) {
+		this.totalLanes = totalLanes;
+
+		int sizeByTask = (numberOfVertices + 1) * totalLanes;
+
+		if (finalTimeTask.length != sizeByTask) {
+			processorTask = new int[sizeByTask];
+			startTimeTask = new int[sizeByTask];
+			finalTimeTask = new int[sizeByTask];
+			communicationCostTask = new int[sizeByTask];
+			waitingTimeTask = new int[sizeByTask];
+		} else {
+			Arrays.fill(finalTimeTask, 0);
+		}
+
+		if (readinessTime.length != (totalProcessors + 1) * totalLanes) {
+			readinessTime = new int[(totalProcessors + 1) * totalLanes];
+		} else {
+			Arrays.fill(readinessTime, 0);
+		}
+
+		if (dat.length < totalLanes) {
+			dat = new int[totalLanes];
+			maxRuntimePredecessors = new int[totalLanes];
+			communicationCostOfTask = new int[totalLanes];
+			totalReadinessTime = new int[totalLanes];
+			makespan = new int[totalLanes];
+			flowTime = new int[totalLanes];
+			communicationCost = new int[totalLanes];
+			waitingTime = new int[totalLanes];
+		} else {
+			Arrays.fill(totalReadinessTime, 0);
+			Arrays.fill(makespan, 0);
+			Arrays.fill(flowTime, 0);
+			Arrays.fill(communicationCost, 0);
+			Arrays.fill(waitingTime, 0);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.br.ufu.scheduling.model;
+
+import com.br.ufu.scheduling.enums.MetricType;
+import com.br.ufu.scheduling.utils.Constants;
+
+//Objective values of one evaluation. It is immutable, so the clones of a chromosome and the fitness cache share it.
+//The objectives are kept as integers multiplied by the scale of the MetricType, so the comparisons between chromosomes are exact.
+//The vector is indexed by the ordinal of the MetricType
+public final class ObjectiveRecord {
+	//While not evaluated, all the values are zero
+	public static final ObjectiveRecord NOT_EVALUATED = new ObjectiveRecord(new long[MetricType.getTotalMetrics()]);
+
+	private final long[] scaledObjectiveValues;
+
+	private ObjectiveRecord(long[] scaledObjectiveValues) {
+		this.scaledObjectiveValues = scaledObjectiveValues;
+	}
+
+	static ObjectiveRecord of(int makespan, long scaledLoadBalance, int flowTime, int communicationCost, int waitingTime) {
+		long[] scaledObjectiveValues = new long[MetricType.getTotalMetrics()];
+
+		scaledObjectiveValues[Constants.MAKESPAN] = makespan;
+		scaledObjectiveValues[Constants.LOAD_BALANCE] = scaledLoadBalance;
+		scaledObjectiveValues[Constants.FLOW_TIME] = flowTime;
+		scaledObjectiveValues[Constants.COMMUNICATION_COST] = communicationCost;
+		scaledObjectiveValues[Constants.WAITING_TIME] = waitingTime;
+
+		return new ObjectiveRecord(scaledObjectiveValues);
+	}
+
+	//Load balance rounded to nine decimal places and multiplied by Constants.LOAD_BALANCE_SCALE
+	static long calculateScaledLoadBalance(int makespan, int totalReadinessTime, int totalProcessors) {
+		return Math.round(makespan / ((double) totalReadinessTime / totalProcessors) * Constants.LOAD_BALANCE_SCALE);
+	}
+
+	//The objective value as an integer, multiplied by the scale of the MetricType (the load balance by Constants.LOAD_BALANCE_SCALE)
+	public long getScaledObjectiveValue(int objectiveIndex) {
+		validateObjectiveIndex(objectiveIndex);
+
+		return scaledObjectiveValues[objectiveIndex];
+	}
+
+	public double getObjectiveValue(int objectiveIndex) {
+		return getScaledObjectiveValue(objectiveIndex) / (double) MetricType.getMetricType(objectiveIndex).getScale();
+	}
+
+	//Key with the same order of the fitness of the objective (a greater key is a greater fitness), compared without the division of the transformation.
+	//The fitness is zero for an objective value equal to zero, like in Configuration.getTransformedObjectiveValue.
+	public long getObjectiveKey(int objectiveIndex, int maximizationConstant) {
+		long objectiveValue = getScaledObjectiveValue(objectiveIndex);
+
+		if (maximizationConstant == Constants.MAXIMIZATION_PROBLEM) {
+			return objectiveValue;
+		}
+
+		if (objectiveValue == 0) {
+			return maximizationConstant > 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+
+		return maximizationConstant > 0 ? -objectiveValue : objectiveValue;
+	}
+
+	//Returns the first objective better than the best value known, or null when there is none
+	MetricType findMetricBetterThanBestKnown() {
+		for (int objectiveIndex = 0; objectiveIndex < scaledObjectiveValues.length; objectiveIndex++) {
+			MetricType metricType = MetricType.getMetricType(objectiveIndex);
+
+			if (getObjectiveValue(objectiveIndex) < metricType.getBestKnownValue()) {
+				return metricType;
+			}
+		}
+
+		return null;
+	}
+
+	private void validateObjectiveIndex(int objectiveIndex) {
+		if (objectiveIndex < 0 || objectiveIndex >= scaledObjectiveValues.length) {
+			throw new IllegalArgumentException("Type of objective invalid. Value: " + objectiveIndex + ".");
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.List;
+
+//Objectives of a whole population kept in one contiguous block, where the objective f of the chromosome in the slot s (position in the list) is in s * numberOfObjectives + f.
+//The comparisons of all the pairs of a population read this block instead of the metrics of each chromosome.
+//The block is only created again when a larger population is loaded, so it is reused in all the generations.
+public class PopulationArena {
+	private int totalSlots;
+	private int numberOfObjectives;
+
+	//Only the block of the last load is valid
+	private long[] objectiveKeys = new long[0];
+	private double[] objectiveValues = new double[0];
+
+	//Keys of the objectives of the plan (Configuration.getObjectivePlan), in the order of the plan
+	public void loadObjectiveKeys(List<Chromosome> population, int[] objectivePlan) {
+		prepare(population.size(), objectivePlan.length);
+
+		if (objectiveKeys.length < totalSlots * numberOfObjectives) {
+			objectiveKeys = new long[totalSlots * numberOfObjectives];
+		}
+
+		int position = 0;
+
+		for (Chromosome chromosome : population) {
+			for (int objectiveIndex : objectivePlan) {
+				objectiveKeys[position++] = chromosome.getObjectiveKey(objectiveIndex);
+			}
+		}
+	}
+
+	//Values of the first objectives (Chromosome.objectives)
+	public void loadObjectiveValues(List<Chromosome> population, int numberOfObjectives) {
+		prepare(population.size(), numberOfObjectives);
+
+		if (objectiveValues.length < totalSlots * numberOfObjectives) {
+			objectiveValues = new double[totalSlots * numberOfObjectives];
+		}
+
+		int position = 0;
+
+		for (Chromosome chromosome : population) {
+			double[] objectives = chromosome.objectives(numberOfObjectives);
+
+			System.arraycopy(objectives, 0, objectiveValues, position, numberOfObjectives);
+			position += numberOfObjectives;
+		}
+	}
+
+	public int getTotalSlots() {
+		return totalSlots;
+	}
+
+	public int getNumberOfObjectives() {
+		return numberOfObjectives;
+	}
+
+	//The position is the one of the objective in the plan loaded, starting at 0
+	public long getObjectiveKey(int slot, int objectivePosition) {
+		return objectiveKeys[slot * numberOfObjectives + objectivePosition];
+	}
+
+	public double getObjectiveValue(int slot, int objective) {
+		return objectiveValues[slot * numberOfObjectives + objective];
+	}
+
+	/**
+	 * Same rule of Chromosome.isChromosomeDominated, with the keys loaded:
+	 *   the chromosome of the slot is dominated by the chromosome of slotB
+	 *   if the key of slotB is greater in all objectives of the plan
+	 *
+	 * */
+	public boolean isDominated(int slot, int slotB) {
+		int position = slot * numberOfObjectives;
+		int positionB = slotB * numberOfObjectives;
+
+		for (int objective = 0; objective < numberOfObjectives; objective++) {
+			if (objectiveKeys[positionB + objective] <= objectiveKeys[position + objective]) {
+				return false;
+			}
+		}
+
+		return numberOfObjectives > 0;
+	}
+
+	//Pareto dominance with the values loaded (the lower, the better): -1 if slot1 dominates slot2, 1 if slot2 dominates slot1 and 0 otherwise
+	public int dominanceTest(int slot1, int slot2) {
+		int position1 = slot1 * numberOfObjectives;
+		int position2 = slot2 * numberOfObjectives;
+		int bestIsOne = 0;
+		int bestIsTwo = 0;
+
+		for (int objective = 0; objective < numberOfObjectives; objective++) {
+			double value1 = objectiveValues[position1 + objective];
+			double value2 = objectiveValues[position2 + objective];
+
+			if (value1 < value2) {
+				bestIsOne = 1;
+			}
+
+			if (value2 < value1) {
+				bestIsTwo = 1;
+			}
+		}
+
+		return Integer.compare(bestIsTwo, bestIsOne);
+	}
+
+	private void prepare(int totalSlots, int numberOfObjectives) {
+		this.totalSlots = totalSlots;
+		this.numberOfObjectives = numberOfObjectives;
+	}
+}
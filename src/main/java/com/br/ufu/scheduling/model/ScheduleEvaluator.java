@@ -0,0 +1,419 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.Arrays;
+
+import com.br.ufu.scheduling.enums.DecoderType;
+import com.br.ufu.scheduling.enums.MetricType;
+import com.br.ufu.scheduling.utils.Configuration;
+import com.br.ufu.scheduling.utils.Constants;
+import com.br.ufu.scheduling.utils.Printer;
+
+//Simulates the execution of a chromosome reusing its auxiliary vectors, so the evaluation does not allocate memory.
+//An evaluator keeps state between evaluations and must not be shared by threads: use getInstance() to get the one of the current thread.
+public class ScheduleEvaluator {
+	private static final ThreadLocal<ScheduleEvaluator> EVALUATOR_BY_THREAD = ThreadLocal.withInitial(ScheduleEvaluator::new);
+	private static final int BOUND_CHECKPOINTS = 4;
+
+	//To facilitate the calculation, we will not work with zero index for the auxiliary vectors
+	private int[] startTimeTask = new int[1];
+	private int[] finalTimeTask = new int[1];
+	private int[] readinessTime = new int[1];
+	private int[] communicationCostTask = new int[1];
+	private int[] waitingTimeTask = new int[1];
+	private int[] boundReadinessTime = new int[1];
+	private IdleIntervals[] idleIntervals = new IdleIntervals[1];
+	private final TaskDuplication taskDuplication = new TaskDuplication();
+	//Vectors of the chromosome evaluated, copied from its slot of the VectorArena, so the simulation reads vectors that start at position 0
+	private int[] stagedMapping = new int[0];
+	private int[] stagedScheduling = new int[0];
+	private ConvergenceListener convergenceListener; //Notified when the convergence for the best solution is enabled
+
+	//Objective values of the last simulation
+	private int makespan;
+	private long scaledLoadBalance;
+	private int flowTime;
+	private int communicationCost;
+	private int waitingTime;
+
+	public static ScheduleEvaluator getInstance() {
+		return EVALUATOR_BY_THREAD.get();
+	}
+
+	public ConvergenceListener getConvergenceListener() {
+		return convergenceListener;
+	}
+
+	//The listener of the algorithm running in the current thread. Null to stop the notifications
+	public void setConvergenceListener(ConvergenceListener convergenceListener) {
+		this.convergenceListener = convergenceListener;
+	}
+
+	//Evaluates the chromosome, restoring its objective values from the fitness cache when possible.
+	//Returns false, leaving the chromosome not evaluated, when the bound rejects it before the end of the simulation.
+	boolean evaluate(Graph graph, Chromosome chromosome, Configuration config, ScheduleTimeline reference, EvaluationBound bound) throws Exception {
+		CompiledGraph compiledGraph = graph.getCompiledGraph();
+
+		stage(chromosome);
+
+		if (restoreStagedFromCache(compiledGraph, chromosome, config)) {
+			return true;
+		}
+
+		ObjectiveRecord record = evaluate(compiledGraph, stagedMapping, stagedScheduling, config, reference, bound);
+
+		if (record == null) {
+			return false;
+		}
+
+		TaskCopies taskCopies = isDuplication(compiledGraph, config) ? taskDuplication.buildCopies() : TaskCopies.WITHOUT_COPIES;
+		ScheduleTimeline timeline = config.isIncrementalEvaluation() ? buildTimeline(stagedMapping, stagedScheduling, compiledGraph.getNumberOfVertices(), taskCopies) : null;
+
+		finishStagedSimulation(compiledGraph, chromosome, config, record, timeline, taskCopies);
+
+		return true;
+	}
+
+	//Returns true, with the chromosome evaluated, when its evaluation is in the fitness cache
+	boolean restoreFromCache(CompiledGraph compiledGraph, Chromosome chromosome, Configuration config) {
+		stage(chromosome);
+
+		return restoreStagedFromCache(compiledGraph, chromosome, config);
+	}
+
+	private boolean restoreStagedFromCache(CompiledGraph compiledGraph, Chromosome chromosome, Configuration config) {
+		FitnessCache.CachedEvaluation cachedEvaluation = FitnessCache.getInstance().restore(compiledGraph, stagedMapping, stagedScheduling, config);
+
+		if (cachedEvaluation == null) {
+			return false;
+		}
+
+		//The listener is not notified: the chromosome was already checked when it was simulated
+		chromosome.finishEvaluation(config, cachedEvaluation.getRecord(), cachedEvaluation.getTimeline(), cachedEvaluation.getTaskCopies());
+
+		return true;
+	}
+
+	//Keeps the result of a simulation in the fitness cache and in the chromosome
+	void finishSimulation(CompiledGraph compiledGraph, Chromosome chromosome, Configuration config, ObjectiveRecord record, ScheduleTimeline timeline, TaskCopies taskCopies) {
+		stage(chromosome);
+		finishStagedSimulation(compiledGraph, chromosome, config, record, timeline, taskCopies);
+	}
+
+	private void finishStagedSimulation(CompiledGraph compiledGraph, Chromosome chromosome, Configuration config, ObjectiveRecord record, ScheduleTimeline timeline, TaskCopies taskCopies) {
+		FitnessCache.getInstance().store(compiledGraph, stagedMapping, stagedScheduling, config, record, timeline, taskCopies);
+		chromosome.finishEvaluation(config, record, timeline, taskCopies);
+
+		if (convergenceListener != null && config.isConvergenceForTheBestSolution()) {
+			MetricType metricType = record.findMetricBetterThanBestKnown();
+
+			if (metricType != null) {
+				convergenceListener.betterChromosomeFound(chromosome, metricType);
+			}
+		}
+	}
+
+	public ObjectiveRecord evaluate(CompiledGraph compiledGraph, int[] mapping, int[] scheduling, Configuration config) throws Exception {
+		return evaluate(compiledGraph, mapping, scheduling, config, null);
+	}
+
+	//When the timeline of another evaluation is informed (the chromosome before a mutation or a parent), only the tasks from the first position that differs from it are simulated
+	public ObjectiveRecord evaluate(CompiledGraph compiledGraph, int[] mapping, int[] scheduling, Configuration config, ScheduleTimeline reference) throws Exception {
+		return evaluate(compiledGraph, mapping, scheduling, config, reference, null);
+	}
+
+	//Returns null when the bound rejects the chromosome before the end of the simulation
+	public ObjectiveRecord evaluate(CompiledGraph compiledGraph, int[] mapping, int[] scheduling, Configuration config, ScheduleTimeline reference, EvaluationBound bound) throws Exception {
+		if (!simulate(compiledGraph, mapping, scheduling, config, reference, bound)) {
+			return null;
+		}
+
+		return ObjectiveRecord.of(makespan, scaledLoadBalance, flowTime, communicationCost, waitingTime);
+	}
+
+	//Writes the objective values in the vector by objective used by BatchEvaluator, without creating the metrics.
+	//Returns false, without writing any value, when the bound rejects the chromosome before the end of the simulation.
+	boolean evaluate(CompiledGraph compiledGraph, int[] mapping, int[] scheduling, Configuration config, EvaluationBound bound, double[] objectiveValues, int chromosomeIndex, int totalChromosomes) throws Exception {
+		if (!simulate(compiledGraph, mapping, scheduling, config, null, bound)) {
+			return false;
+		}
+
+		objectiveValues[BatchEvaluator.getIndex(Constants.MAKESPAN, chromosomeIndex, totalChromosomes)] = makespan;
+		objectiveValues[BatchEvaluator.getIndex(Constants.LOAD_BALANCE, chromosomeIndex, totalChromosomes)] = scaledLoadBalance / (double) Constants.LOAD_BALANCE_SCALE;
+		objectiveValues[BatchEvaluator.getIndex(Constants.FLOW_TIME, chromosomeIndex, totalChromosomes)] = flowTime;
+		objectiveValues[BatchEvaluator.getIndex(Constants.COMMUNICATION_COST, chromosomeIndex, totalChromosomes)] = communicationCost;
+		objectiveValues[BatchEvaluator.getIndex(Constants.WAITING_TIME, chromosomeIndex, totalChromosomes)] = waitingTime;
+
+		return true;
+	}
+
+	//Returns false when the simulation is aborted because the bound rejected the partial objectives
+	private boolean simulate(CompiledGraph compiledGraph, int[] mapping, int[] scheduling, Configuration config, ScheduleTimeline reference, EvaluationBound bound) throws Exception {
+		int numberOfVertices = compiledGraph.getNumberOfVertices();
+		int totalProcessors = config.getTotalProcessors();
+
+		compiledGraph.validateTotalProcessors(totalProcessors);
+
+		boolean insertion = config.getDecoderType() == DecoderType.INSERTION;
+		boolean duplication = isDuplication(compiledGraph, config);
+
+		//The prefix of the reference would need the idle intervals or the copies of the tasks, and the bound assumes that
+		//the tasks are only appended and that each edge between processors costs communication
+		if (config.getDecoderType() != DecoderType.APPEND) {
+			reference = null;
+			bound = null;
+		}
+
+		prepareVectors(numberOfVertices, totalProcessors, insertion);
+
+		if (duplication) {
+			taskDuplication.prepare(numberOfVertices, totalProcessors);
+		}
+
+		int[] executionTime = compiledGraph.getExecutionTimes();
+		int[] predecessorOffsets = compiledGraph.getPredecessorOffsets();
+		int[] predecessors = compiledGraph.getPredecessors();
+		int[] predecessorCommunicationCosts = compiledGraph.getPredecessorCommunicationCosts();
+		boolean withCommunicationCost = compiledGraph.isWithCommunicationCost();
+
+		//All the objectives are accumulated while the execution is simulated, in a single pass over the tasks
+		int makespan = 0;
+		int flowTime = 0;
+		int communicationCost = 0;
+		int waitingTime = 0;
+		int totalReadinessTime = 0;
+
+		int firstPositionToSimulate = reference != null ? reference.getFirstPositionToSimulate(mapping, scheduling) : 0;
+
+		for (int taskIndex = 0; taskIndex < firstPositionToSimulate; taskIndex++) {
+			int task = scheduling[taskIndex];
+			int processor = mapping[task - 1];
+
+			startTimeTask[task] = reference.getStartTime(task);
+			finalTimeTask[task] = reference.getFinalTime(task);
+			communicationCostTask[task] = reference.getCommunicationCost(task);
+			waitingTimeTask[task] = reference.getWaitingTime(task);
+
+			totalReadinessTime += finalTimeTask[task] - readinessTime[processor];
+			readinessTime[processor] = finalTimeTask[task];
+
+			makespan = Integer.max(makespan, finalTimeTask[task]);
+			flowTime += finalTimeTask[task];
+			communicationCost += communicationCostTask[task];
+			waitingTime += waitingTimeTask[task];
+		}
+
+		//The communication cost is already the final one before the simulation, so it is informed to the bound in every check instead of the partial one
+		int communicationCostOfMapping = bound != null ? calculateCommunicationCostOfMapping(compiledGraph, mapping) : 0;
+
+		//Before simulating, the bound is checked with the lower bounds calculated without the simulation (or with the part restored from the reference)
+		if (bound != null && firstPositionToSimulate < numberOfVertices
+				&& isRejected(bound, compiledGraph, mapping, scheduling, firstPositionToSimulate, makespan, flowTime, communicationCostOfMapping, waitingTime)) {
+			return false;
+		}
+
+		//With a bound, the simulation is divided in segments and the partial objectives are checked after each one
+		int segmentSize = bound != null ? Integer.max(1, numberOfVertices / BOUND_CHECKPOINTS) : numberOfVertices;
+
+		for (int segmentStart = firstPositionToSimulate; segmentStart < numberOfVertices; segmentStart += segmentSize) {
+			int segmentEnd = Integer.min(numberOfVertices, segmentStart + segmentSize);
+
+			for (int taskIndex = segmentStart; taskIndex < segmentEnd; taskIndex++) {
+				int task = scheduling[taskIndex];
+				//Need to subtract one because the mapping vector starts from index 0
+				int processor = mapping[task - 1];
+				int executionTimeOfTask = executionTime[compiledGraph.getExecutionTimeIndex(task, processor)];
+
+				//Data arrival time: the moment when the data of all the predecessors are available on the processor
+				int dat = 0;
+				int maxRuntimePredecessors = 0;
+				int communicationCostOfTask = 0;
+
+				if (duplication) {
+					taskDuplication.duplicateCriticalPredecessor(compiledGraph, mapping, finalTimeTask, readinessTime, task, processor);
+
+					//The data of a predecessor copied to the processor come from the copy
+					for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+						int entry = predecessors[position];
+						int arrivalTime = taskDuplication.getArrivalTime(entry, processor, mapping, finalTimeTask, predecessorCommunicationCosts[position]);
+						communicationCostOfTask += taskDuplication.getCommunicationCost(entry, processor, mapping, finalTimeTask, predecessorCommunicationCosts[position]);
+
+						maxRuntimePredecessors = Integer.max(maxRuntimePredecessors, Integer.min(finalTimeTask[entry], arrivalTime));
+						dat = Integer.max(dat, arrivalTime);
+					}
+				} else if (withCommunicationCost) {
+					for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+						int entry = predecessors[position];
+						int resultCost = finalTimeTask[entry];
+
+						if (maxRuntimePredecessors < resultCost) {
+							maxRuntimePredecessors = resultCost;
+						}
+
+						if (processor != mapping[entry - 1] && predecessorCommunicationCosts[position] > 0) {
+							communicationCostOfTask += predecessorCommunicationCosts[position];
+							resultCost += predecessorCommunicationCosts[position];
+						}
+
+						if (dat < resultCost) {
+							dat = resultCost;
+						}
+					}
+				} else {
+					//Without communication costs, the data arrive when the last predecessor finishes, in any processor
+					for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+						maxRuntimePredecessors = Integer.max(maxRuntimePredecessors, finalTimeTask[predecessors[position]]);
+					}
+
+					dat = maxRuntimePredecessors;
+				}
+
+				if (insertion) {
+					startTimeTask[task] = idleIntervals[processor].insert(readinessTime[processor], dat, executionTimeOfTask);
+				} else {
+					startTimeTask[task] = Integer.max(readinessTime[processor], dat);
+				}
+
+				finalTimeTask[task] = startTimeTask[task] + executionTimeOfTask;
+
+				//A task inserted in an idle interval does not change the readiness time of its processor
+				if (finalTimeTask[task] > readinessTime[processor]) {
+					totalReadinessTime += finalTimeTask[task] - readinessTime[processor];
+					readinessTime[processor] = finalTimeTask[task];
+				}
+
+				makespan = Integer.max(makespan, finalTimeTask[task]);
+				flowTime += finalTimeTask[task];
+
+				communicationCostTask[task] = communicationCostOfTask;
+				communicationCost += communicationCostOfTask;
+
+				//The root tasks do not wait for any predecessor
+				if (predecessorOffsets[task] < predecessorOffsets[task + 1] && startTimeTask[task] > maxRuntimePredecessors) {
+					waitingTimeTask[task] = startTimeTask[task] - maxRuntimePredecessors;
+				} else {
+					waitingTimeTask[task] = 0;
+				}
+
+				waitingTime += waitingTimeTask[task];
+
+				if (config.isTestMode()) {
+					Printer.printExecutionOrder(startTimeTask, finalTimeTask, readinessTime, task, totalProcessors);
+				}
+			}
+
+			if (bound != null && segmentEnd < numberOfVertices && isRejected(bound, compiledGraph, mapping, scheduling, segmentEnd, makespan, flowTime, communicationCostOfMapping, waitingTime)) {
+				return false;
+			}
+		}
+
+		if (duplication) {
+			flowTime += taskDuplication.getFlowTimeOfCopies();
+			totalReadinessTime += taskDuplication.getReadinessTimeOfCopies();
+			communicationCost += taskDuplication.getCommunicationCostOfCopies();
+		}
+
+		this.makespan = makespan;
+		this.scaledLoadBalance = ObjectiveRecord.calculateScaledLoadBalance(makespan, totalReadinessTime, totalProcessors);
+		this.flowTime = flowTime;
+		this.communicationCost = communicationCost;
+		this.waitingTime = waitingTime;
+
+		return true;
+	}
+
+	//Each task not simulated yet can only start after the current readiness time of its processor, after the tasks before it in the same processor
+	//and after its earliest start time without communication costs (critical path), so the makespan and the flow time are bounded in O(tasks).
+	//The waiting time never decreases when more tasks are simulated.
+	private boolean isRejected(EvaluationBound bound, CompiledGraph compiledGraph, int[] mapping, int[] scheduling, int firstPositionNotSimulated, int makespan, int flowTime, int communicationCost, int waitingTime) {
+		int[] executionTime = compiledGraph.getExecutionTimes();
+		int[] earliestStartTime = compiledGraph.getEarliestStartTimes();
+
+		System.arraycopy(readinessTime, 0, boundReadinessTime, 0, readinessTime.length);
+
+		for (int taskIndex = firstPositionNotSimulated; taskIndex < scheduling.length; taskIndex++) {
+			int task = scheduling[taskIndex];
+			int processor = mapping[task - 1];
+
+			boundReadinessTime[processor] = Integer.max(boundReadinessTime[processor], earliestStartTime[task]) + executionTime[compiledGraph.getExecutionTimeIndex(task, processor)];
+			makespan = Integer.max(makespan, boundReadinessTime[processor]);
+			flowTime += boundReadinessTime[processor];
+		}
+
+		return bound.isRejected(makespan, flowTime, communicationCost, waitingTime);
+	}
+
+	//In the append decoder, the communication cost does not depend on the scheduling vector: it is the cost of the edges between tasks in different processors
+	private int calculateCommunicationCostOfMapping(CompiledGraph compiledGraph, int[] mapping) {
+		if (!compiledGraph.isWithCommunicationCost()) {
+			return 0;
+		}
+
+		int[] predecessorOffsets = compiledGraph.getPredecessorOffsets();
+		int[] predecessors = compiledGraph.getPredecessors();
+		int[] predecessorCommunicationCosts = compiledGraph.getPredecessorCommunicationCosts();
+		int communicationCost = 0;
+
+		for (int task = 1; task <= compiledGraph.getNumberOfVertices(); task++) {
+			for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+				if (mapping[task - 1] != mapping[predecessors[position] - 1]) {
+					communicationCost += predecessorCommunicationCosts[position];
+				}
+			}
+		}
+
+		return communicationCost;
+	}
+
+	//Without communication costs there is no data to receive earlier, so the duplication decoder is the append one
+	private boolean isDuplication(CompiledGraph compiledGraph, Configuration config) {
+		return config.getDecoderType() == DecoderType.DUPLICATION && compiledGraph.isWithCommunicationCost();
+	}
+
+	private void stage(Chromosome chromosome) {
+		if (stagedMapping.length != chromosome.getNumberOfTasks()) {
+			stagedMapping = new int[chromosome.getNumberOfTasks()];
+			stagedScheduling = new int[chromosome.getNumberOfTasks()];
+		}
+
+		chromosome.copyVectors(stagedMapping, stagedScheduling);
+	}
+
+	private ScheduleTimeline buildTimeline(int[] mapping, int[] scheduling, int numberOfVertices, TaskCopies taskCopies) {
+		return new ScheduleTimeline(mapping.clone(), scheduling.clone(),
+				Arrays.copyOf(startTimeTask, numberOfVertices + 1),
+				Arrays.copyOf(finalTimeTask, numberOfVertices + 1),
+				Arrays.copyOf(communicationCostTask, numberOfVertices + 1),
+				Arrays.copyOf(waitingTimeTask, numberOfVertices + 1),
+				taskCopies);
+	}
+
+	private void prepareVectors(int numberOfVertices, int totalProcessors, boolean insertion) {
+		if (startTimeTask.length != numberOfVertices + 1) {
+			startTimeTask = new int[numberOfVertices + 1];
+			finalTimeTask = new int[numberOfVertices + 1];
+			communicationCostTask = new int[numberOfVertices + 1];
+			waitingTimeTask = new int[numberOfVertices + 1];
+		} else {
+			Arrays.fill(startTimeTask, 0);
+			Arrays.fill(finalTimeTask, 0);
+		}
+
+		if (readinessTime.length != totalProcessors + 1) {
+			readinessTime = new int[totalProcessors + 1];
+			boundReadinessTime = new int[totalProcessors + 1];
+			idleIntervals = new IdleIntervals[totalProcessors + 1];
+		} else {
+			Arrays.fill(readinessTime, 0);
+		}
+
+		if (insertion) {
+			for (int processor = 1; processor <= totalProcessors; processor++) {
+				if (idleIntervals[processor] == null) {
+					idleIntervals[processor] = new IdleIntervals();
+				} else {
+					idleIntervals[processor].clear();
+				}
+			}
+		}
+	}
+}
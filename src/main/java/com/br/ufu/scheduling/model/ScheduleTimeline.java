@@ -0,0 +1,72 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.Arrays;
+
+//Times of each task in the simulated execution of a chromosome, kept to simulate again only the part of the schedule changed in a mutated chromosome or in a child.
+//It keeps copies of the vectors of the chromosome evaluated, and it is shared by the clones of the chromosome.
+public class ScheduleTimeline {
+	private final int[] mapping;
+	private final int[] scheduling;
+
+	//To facilitate the calculation, we will not work with zero index for the vectors indexed by task
+	private final int[] startTimeTask;
+	private final int[] finalTimeTask;
+	private final int[] communicationCostTask; //Communication cost paid to receive the data of the predecessors
+	private final int[] waitingTimeTask;
+	private final TaskCopies taskCopies;
+
+	//The vectors are kept, so the caller informs copies of the ones of the chromosome
+	ScheduleTimeline(int[] mapping, int[] scheduling, int[] startTimeTask, int[] finalTimeTask, int[] communicationCostTask, int[] waitingTimeTask, TaskCopies taskCopies) {
+		this.mapping = mapping;
+		this.scheduling = scheduling;
+		this.startTimeTask = startTimeTask;
+		this.finalTimeTask = finalTimeTask;
+		this.communicationCostTask = communicationCostTask;
+		this.waitingTimeTask = waitingTimeTask;
+		this.taskCopies = taskCopies;
+	}
+
+	//The tasks before the first position with a different task or a task with a different processor are not affected,
+	//because they have the same predecessors and the same processors in both evaluations
+	int getFirstPositionToSimulate(int[] mapping, int[] scheduling) {
+		if (scheduling.length != this.scheduling.length) {
+			return 0;
+		}
+
+		for (int taskIndex = 0; taskIndex < scheduling.length; taskIndex++) {
+			int task = scheduling[taskIndex];
+
+			if (task != this.scheduling[taskIndex] || mapping[task - 1] != this.mapping[task - 1]) {
+				return taskIndex;
+			}
+		}
+
+		return scheduling.length;
+	}
+
+	//True when the timeline was built for these vectors
+	boolean isTimelineOf(int[] mapping, int[] scheduling) {
+		return Arrays.equals(this.mapping, mapping) && Arrays.equals(this.scheduling, scheduling);
+	}
+
+	int getStartTime(int task) {
+		return startTimeTask[task];
+	}
+
+	int getFinalTime(int task) {
+		return finalTimeTask[task];
+	}
+
+	int getCommunicationCost(int task) {
+		return communicationCostTask[task];
+	}
+
+	int getWaitingTime(int task) {
+		return waitingTimeTask[task];
+	}
+
+	//Copies of the tasks made by the duplication decoder, besides the tasks of the scheduling vector
+	public TaskCopies getTaskCopies() {
+		return taskCopies;
+	}
+}
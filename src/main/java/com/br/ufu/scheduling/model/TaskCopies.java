@@ -0,0 +1,54 @@
+package com.br.ufu.scheduling.model;
+
+//Copies of tasks in the schedule of a chromosome, made by the duplication decoder, in the order they were made.
+//A copy runs the task again in another processor, so the successors in that processor receive its data without communication cost.
+//It is not changed after the evaluation and is shared by the clones of the chromosome and by its timeline.
+public class TaskCopies {
+	public static final TaskCopies WITHOUT_COPIES = new TaskCopies(new int[0], new int[0], new int[0], new int[0]);
+
+	private final int[] tasks;
+	private final int[] processors;
+	private final int[] startTimes;
+	private final int[] finalTimes;
+
+	TaskCopies(int[] tasks, int[] processors, int[] startTimes, int[] finalTimes) {
+		this.tasks = tasks;
+		this.processors = processors;
+		this.startTimes = startTimes;
+		this.finalTimes = finalTimes;
+	}
+
+	public int getTotalCopies() {
+		return tasks.length;
+	}
+
+	public int getTask(int copy) {
+		validateCopy(copy);
+
+		return tasks[copy];
+	}
+
+	public int getProcessor(int copy) {
+		validateCopy(copy);
+
+		return processors[copy];
+	}
+
+	public int getStartTime(int copy) {
+		validateCopy(copy);
+
+		return startTimes[copy];
+	}
+
+	public int getFinalTime(int copy) {
+		validateCopy(copy);
+
+		return finalTimes[copy];
+	}
+
+	private void validateCopy(int copy) {
+		if (copy < 0 || copy >= tasks.length) {
+			throw new IllegalArgumentException("Invalid copy index. Valid values between 0 and " + (tasks.length - 1) + ". Value: " + copy + ".");
+		}
+	}
+}
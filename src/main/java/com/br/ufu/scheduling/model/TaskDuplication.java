@@ -0,0 +1,160 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.Arrays;
+
+//Copies of tasks made by the duplication decoder during one simulation. A predecessor is copied to the processor of a task when its data
+//would arrive from another processor and the copy, appended to the processor, lets the task start earlier.
+//The copies take time of their processor, so they are added to the flow time and to the load balance, and their own input data can cost communication.
+class TaskDuplication {
+	private static final int WITHOUT_COPY = -1;
+
+	private int[] copyFinalTime = new int[0]; //Indexed by task * (totalProcessors + 1) + processor
+	private int[] copyPositions = new int[0]; //Positions of copyFinalTime used in the current simulation
+	private int[] copyStartTimes = new int[0]; //By copy, in the order of copyPositions
+	private int totalCopies;
+	private int processorStride;
+
+	//Totals of the copies of the current simulation
+	private int flowTimeOfCopies;
+	private int readinessTimeOfCopies;
+	private int communicationCostOfCopies;
+
+	void prepare(int numberOfVertices, int totalProcessors) {
+		processorStride = totalProcessors + 1;
+
+		if (copyFinalTime.length != (numberOfVertices + 1) * processorStride) {
+			copyFinalTime = new int[(numberOfVertices + 1) * processorStride];
+			copyPositions = new int[numberOfVertices];
+			copyStartTimes = new int[numberOfVertices];
+			Arrays.fill(copyFinalTime, WITHOUT_COPY);
+		} else {
+			for (int copy = 0; copy < totalCopies; copy++) {
+				copyFinalTime[copyPositions[copy]] = WITHOUT_COPY;
+			}
+		}
+
+		totalCopies = 0;
+		flowTimeOfCopies = 0;
+		readinessTimeOfCopies = 0;
+		communicationCostOfCopies = 0;
+	}
+
+	int getFlowTimeOfCopies() {
+		return flowTimeOfCopies;
+	}
+
+	int getReadinessTimeOfCopies() {
+		return readinessTimeOfCopies;
+	}
+
+	int getCommunicationCostOfCopies() {
+		return communicationCostOfCopies;
+	}
+
+	//The copies of the current simulation, to keep in the chromosome and in the timeline
+	TaskCopies buildCopies() {
+		if (totalCopies == 0) {
+			return TaskCopies.WITHOUT_COPIES;
+		}
+
+		int[] tasks = new int[totalCopies];
+		int[] processors = new int[totalCopies];
+		int[] finalTimes = new int[totalCopies];
+
+		for (int copy = 0; copy < totalCopies; copy++) {
+			tasks[copy] = copyPositions[copy] / processorStride;
+			processors[copy] = copyPositions[copy] % processorStride;
+			finalTimes[copy] = copyFinalTime[copyPositions[copy]];
+		}
+
+		return new TaskCopies(tasks, processors, Arrays.copyOf(copyStartTimes, totalCopies), finalTimes);
+	}
+
+	//Moment when the data of the entry are available on the processor, from the original task or from its copy in the processor
+	int getArrivalTime(int entry, int processor, int[] mapping, int[] finalTimeTask, int communicationCost) {
+		int arrivalTime = getArrivalTimeFromOriginal(entry, processor, mapping, finalTimeTask, communicationCost);
+
+		return isDataFromCopy(entry, processor, arrivalTime) ? copyFinalTime[entry * processorStride + processor] : arrivalTime;
+	}
+
+	//The communication cost is only paid when the data come from the original task in another processor, not from a copy in the processor
+	int getCommunicationCost(int entry, int processor, int[] mapping, int[] finalTimeTask, int communicationCost) {
+		return isDataFromOtherProcessor(entry, processor, mapping, finalTimeTask, communicationCost) ? communicationCost : 0;
+	}
+
+	private boolean isDataFromOtherProcessor(int entry, int processor, int[] mapping, int[] finalTimeTask, int communicationCost) {
+		return processor != mapping[entry - 1] && !isDataFromCopy(entry, processor, finalTimeTask[entry] + communicationCost);
+	}
+
+	private int getArrivalTimeFromOriginal(int entry, int processor, int[] mapping, int[] finalTimeTask, int communicationCost) {
+		return processor != mapping[entry - 1] ? finalTimeTask[entry] + communicationCost : finalTimeTask[entry];
+	}
+
+	//The copy is used when it finishes before the data of the original task arrive
+	private boolean isDataFromCopy(int entry, int processor, int arrivalTimeFromOriginal) {
+		int copy = copyFinalTime[entry * processorStride + processor];
+
+		return copy != WITHOUT_COPY && copy < arrivalTimeFromOriginal;
+	}
+
+	//Copies the predecessor whose data arrive last to the processor of the task, when it makes the task start earlier
+	void duplicateCriticalPredecessor(CompiledGraph compiledGraph, int[] mapping, int[] finalTimeTask, int[] readinessTime, int task, int processor) {
+		int[] predecessorOffsets = compiledGraph.getPredecessorOffsets();
+		int[] predecessors = compiledGraph.getPredecessors();
+		int[] predecessorCommunicationCosts = compiledGraph.getPredecessorCommunicationCosts();
+
+		int dat = 0;
+		int criticalPosition = -1;
+
+		for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+			int arrivalTime = getArrivalTime(predecessors[position], processor, mapping, finalTimeTask, predecessorCommunicationCosts[position]);
+
+			if (criticalPosition == -1 || arrivalTime > dat) {
+				dat = arrivalTime;
+				criticalPosition = position;
+			}
+		}
+
+		//Only data that come from another processor with a communication cost can arrive earlier with a copy (a copy already made is not copied again)
+		if (criticalPosition == -1 || dat <= finalTimeTask[predecessors[criticalPosition]]
+				|| !isDataFromOtherProcessor(predecessors[criticalPosition], processor, mapping, finalTimeTask, predecessorCommunicationCosts[criticalPosition])) {
+			return;
+		}
+
+		int criticalEntry = predecessors[criticalPosition];
+		int datOfOtherEntries = 0;
+
+		for (int position = predecessorOffsets[task]; position < predecessorOffsets[task + 1]; position++) {
+			if (position != criticalPosition) {
+				datOfOtherEntries = Integer.max(datOfOtherEntries, getArrivalTime(predecessors[position], processor, mapping, finalTimeTask, predecessorCommunicationCosts[position]));
+			}
+		}
+
+		//The copy receives the data of the predecessors of the critical entry in the processor of the task
+		int datOfCopy = 0;
+		int communicationCostOfCopy = 0;
+
+		for (int position = predecessorOffsets[criticalEntry]; position < predecessorOffsets[criticalEntry + 1]; position++) {
+			communicationCostOfCopy += getCommunicationCost(predecessors[position], processor, mapping, finalTimeTask, predecessorCommunicationCosts[position]);
+			datOfCopy = Integer.max(datOfCopy, getArrivalTime(predecessors[position], processor, mapping, finalTimeTask, predecessorCommunicationCosts[position]));
+		}
+
+		int copyStartTime = Integer.max(readinessTime[processor], datOfCopy);
+		int finalTimeOfCopy = copyStartTime + compiledGraph.getExecutionTime(criticalEntry, processor);
+
+		if (Integer.max(finalTimeOfCopy, datOfOtherEntries) >= Integer.max(readinessTime[processor], dat)) {
+			return;
+		}
+
+		int copyPosition = criticalEntry * processorStride + processor;
+		copyFinalTime[copyPosition] = finalTimeOfCopy;
+		copyPositions[totalCopies] = copyPosition;
+		copyStartTimes[totalCopies++] = copyStartTime;
+
+		flowTimeOfCopies += finalTimeOfCopy;
+		readinessTimeOfCopies += finalTimeOfCopy - readinessTime[processor];
+		communicationCostOfCopies += communicationCostOfCopy;
+
+		readinessTime[processor] = finalTimeOfCopy;
+	}
+}
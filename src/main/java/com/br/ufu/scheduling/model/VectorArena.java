@@ -0,0 +1,105 @@
+package com.br.ufu.scheduling.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+//Mapping and scheduling vectors of the chromosomes of a population in one contiguous block. The chromosome of the slot s keeps its mapping vector
+//in the positions [s * 2n, s * 2n + n) and its scheduling vector in [s * 2n + n, (s + 1) * 2n), where n is the number of tasks.
+//The slots released by the chromosomes discarded in a generation are reused by the children of the next one, so the block only grows with the population.
+//A released chromosome must not be used anymore: keep a clone of the chromosomes that must outlive the generation (the clone has its own block).
+public class VectorArena {
+	private final int numberOfTasks;
+	private final int slotSize;
+
+	private int[] vectors;
+	private int totalSlots; //Slots already used at least once: the free ones are in freeSlots
+
+	private int[] freeSlots = new int[0];
+	private int totalFreeSlots;
+
+	//Block of a single chromosome
+	public VectorArena(int numberOfTasks) {
+		this(numberOfTasks, 1);
+	}
+
+	public VectorArena(int numberOfTasks, int initialSlots) {
+		if (numberOfTasks < 1 || initialSlots < 1) {
+			throw new IllegalArgumentException("Invalid arena. Number of tasks: " + numberOfTasks + ". Initial slots: " + initialSlots + ".");
+		}
+
+		this.numberOfTasks = numberOfTasks;
+		this.slotSize = 2 * numberOfTasks;
+		this.vectors = new int[initialSlots * slotSize];
+	}
+
+	public int getNumberOfTasks() {
+		return numberOfTasks;
+	}
+
+	public int getTotalSlotsInUse() {
+		return totalSlots - totalFreeSlots;
+	}
+
+	//Returns a slot for a new chromosome: the last one released or, when there is none, a new one at the end of the block
+	int allocate() {
+		if (totalFreeSlots > 0) {
+			return freeSlots[--totalFreeSlots];
+		}
+
+		if ((totalSlots + 1) * slotSize > vectors.length) {
+			vectors = Arrays.copyOf(vectors, 2 * vectors.length);
+		}
+
+		return totalSlots++;
+	}
+
+	public void release(Chromosome chromosome) {
+		if (chromosome.getArena() != this || chromosome.isReleased()) {
+			throw new IllegalArgumentException("The chromosome does not have a slot in this arena.");
+		}
+
+		if (totalFreeSlots == freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, Integer.max(8, 2 * freeSlots.length));
+		}
+
+		freeSlots[totalFreeSlots++] = chromosome.getSlot();
+		chromosome.releaseSlot();
+	}
+
+	//Releases the chromosomes of a generation that are not in the next one. The same chromosome can be in a list more than once
+	public void releaseDiscarded(List<Chromosome> generation, List<Chromosome> nextGeneration) {
+		Set<Chromosome> chromosomesKept = Collections.newSetFromMap(new IdentityHashMap<>());
+		chromosomesKept.addAll(nextGeneration);
+
+		for (Chromosome chromosome : generation) {
+			if (chromosomesKept.add(chromosome)) {
+				release(chromosome);
+			}
+		}
+	}
+
+	//Releases all the slots at once, when the whole population is discarded
+	public void releaseAll(List<Chromosome> population) {
+		for (Chromosome chromosome : population) {
+			if (!chromosome.isReleased()) {
+				release(chromosome);
+			}
+		}
+	}
+
+	//The block is created again when it grows, so it must be read again after a chromosome is created
+	int[] getVectors() {
+		return vectors;
+	}
+
+	int getMappingOffset(int slot) {
+		return slot * slotSize;
+	}
+
+	int getSchedulingOffset(int slot) {
+		return slot * slotSize + numberOfTasks;
+	}
+}
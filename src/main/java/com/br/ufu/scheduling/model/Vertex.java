@@ -7,6 +7,7 @@ public class Vertex implements Comparable<Vertex> {
     private int task;
     private int computationalCost;
     private List<Integer> entries; //Vertex parents
+    private List<Edge> entryEdges; //Edges from the vertex parents, in the same order as the entries
     private List<Edge> adjacency;
 
 	public int shortestDistance = Integer.MAX_VALUE;
@@ -15,6 +16,7 @@ public class Vertex implements Comparable<Vertex> {
         this.task = task;
         this.computationalCost = computationalCost;
         this.entries = new ArrayList<Integer>();
+        this.entryEdges = new ArrayList<Edge>();
         this.adjacency = new ArrayList<Edge>();
     }
 
@@ -38,12 +40,36 @@ public class Vertex implements Comparable<Vertex> {
     	return adjacency;
     }
 
+    //Returns null when there is no edge from the parent in the given position of the entries
+    public Edge getEntryEdge(int entryIndex) {
+    	return entryEdges.get(entryIndex);
+    }
+
     public void setEntries(List<Integer> entries) {
     	this.entries = entries;
+    	this.entryEdges = new ArrayList<Edge>();
+
+    	if (entries != null) {
+    		entries.forEach(entry -> entryEdges.add(null));
+    	}
     }
 
     public void addEntry(Integer entry) {
     	entries.add(entry);
+    	entryEdges.add(null);
+    }
+
+    //Keeps the edge in the same position of its source in the entries, so the communication cost of a parent is found without searching its adjacency
+    public void addEntryEdge(Edge edge) {
+    	if (entries == null) {
+    		return;
+    	}
+
+    	int entryIndex = entries.indexOf(edge.getSource().getTask());
+
+    	if (entryIndex >= 0) {
+    		entryEdges.set(entryIndex, edge);
+    	}
     }
 
     public void addAdjacency(Edge edge) {
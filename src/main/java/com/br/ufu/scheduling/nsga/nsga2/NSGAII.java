@@ -2,21 +2,25 @@ package com.br.ufu.scheduling.nsga.nsga2;
 
 import java.io.BufferedWriter;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
+import com.br.ufu.scheduling.model.BatchEvaluator;
 import com.br.ufu.scheduling.model.Chromosome;
+import com.br.ufu.scheduling.model.ConvergenceStop;
 import com.br.ufu.scheduling.model.DataForSpreadsheet;
 import com.br.ufu.scheduling.model.Graph;
+import com.br.ufu.scheduling.model.PopulationArena;
+import com.br.ufu.scheduling.model.ScheduleEvaluator;
+import com.br.ufu.scheduling.model.VectorArena;
 import com.br.ufu.scheduling.utils.Configuration;
 import com.br.ufu.scheduling.utils.Constants;
 import com.br.ufu.scheduling.utils.Crossover;
 import com.br.ufu.scheduling.utils.Printer;
-import com.br.ufu.scheduling.utils.Utils;
 
 public class NSGAII {
     private Random generator;
@@ -29,11 +33,25 @@ public class NSGAII {
     private List<Chromosome> childrenList   = new ArrayList<>();
 
     private int generationAccumulated;
+    private final ConvergenceStop convergenceStop = new ConvergenceStop();
+
+    //Ranking of the list being prepared, by slot (position of the chromosome in the list). The vectors are reused in all the generations
+    private int[] slots = new int[0];
+    private int[] sortBuffer = new int[0];
+    private int[] rank = new int[0];
+    private double[] crowdingDistance = new double[0];
+    private double[] normalizedObjectiveValues = new double[0];
+    private int[] dominatedCount = new int[0];
+    private int[][] dominatedSlots = new int[0][];
+    private int[] totalDominatedSlots = new int[0];
+    private final PopulationArena arena = new PopulationArena(); //Keys of the objectives of the plan, by slot
+    private final VectorArena vectorArena; //Vectors of the chromosomes: the slots of the ones discarded in the reinsertion are reused by the next children
 
     public NSGAII(Configuration config, Graph graph, Random generator) throws Exception {
         this.config = config;
         this.graph = graph;
         this.generator = generator;
+        this.vectorArena = new VectorArena(graph.getNumberOfVertices(), 2 * config.getInitialPopulation());
     }
 
     public Map<String, DataForSpreadsheet> executeForSpreadsheet(long initialTime, BufferedWriter finalResultWriter) throws Exception {
@@ -47,7 +65,7 @@ public class NSGAII {
     public void execute(long initialTime) throws Exception {
         initialize();
 
-        while (generationAccumulated < config.getTotalGenerations()) {
+        while (generationAccumulated < config.getTotalGenerations() && !convergenceStop.isStopRequested()) {
             if (config.isPrintIterations()) {
                 System.out.println("############################\n");
                 System.out.println("####### GENERATION: " + (generationAccumulated + 1) + " #######\n");
@@ -59,11 +77,15 @@ public class NSGAII {
             finalizeGeneration();
         }
 
+        convergenceStop.printBetterChromosomeFound();
         selectParetoBorder();
         showResult(initialTime);
     }
 
     private void initialize() throws Exception {
+        convergenceStop.reset();
+        ScheduleEvaluator.getInstance().setConvergenceListener(convergenceStop);
+
         generationAccumulated = 0;
 
         generateInitialPopulation();
@@ -73,11 +95,13 @@ public class NSGAII {
     private void generateInitialPopulation() throws Exception {
         int count = 0;
         while (count < config.getInitialPopulation()) {
-            Chromosome chromosome = new Chromosome(generator, graph, config);
+            Chromosome chromosome = new Chromosome(vectorArena, generator, graph, config);
 
             if (!chromosomeList.contains(chromosome)) {
                 addChromosomeInGeneralList(chromosome);
                 count++;
+            } else {
+                vectorArena.release(chromosome);
             }
         }
     }
@@ -87,27 +111,77 @@ public class NSGAII {
     }
 
     private void preparePopulation(List<Chromosome> chromosomeList) {
+        prepareRankingVectors(chromosomeList.size());
+        arena.loadObjectiveKeys(chromosomeList, config.getObjectivePlan());
+
         calculateRank(chromosomeList);
         calculateCrowdingDistance(chromosomeList);
-        chromosomeList.sort(Comparator.comparingInt(Chromosome::getRank));        
+
+        Service.sortSlots(slots, sortBuffer, chromosomeList.size(), (slot1, slot2) -> Integer.compare(rank[slot1], rank[slot2]));
+        applyRanking(chromosomeList);
     }
 
-    private void calculateRank(List<Chromosome> chromosomeList) {
-        for (Chromosome chromosome : chromosomeList) {
-            chromosome.reset();
+    //The slots are the positions of the chromosomes in the list when the preparation starts
+    private void prepareRankingVectors(int totalSlots) {
+        if (rank.length < totalSlots) {
+            slots = new int[totalSlots];
+            sortBuffer = new int[totalSlots];
+            rank = new int[totalSlots];
+            crowdingDistance = new double[totalSlots];
+            normalizedObjectiveValues = new double[totalSlots];
+            dominatedCount = new int[totalSlots];
+            totalDominatedSlots = new int[totalSlots];
+            dominatedSlots = Arrays.copyOf(dominatedSlots, totalSlots);
+        }
+
+        for (int slot = 0; slot < totalSlots; slot++) {
+            slots[slot] = slot;
         }
 
-        for (int i = 0; i < chromosomeList.size() - 1; i++) {
-            for (int j = i + 1; j < chromosomeList.size(); j++) {
-                switch (dominates(chromosomeList.get(i), chromosomeList.get(j))) {
+        Arrays.fill(rank, 0, totalSlots, -1);
+        Arrays.fill(crowdingDistance, 0, totalSlots, 0);
+        Arrays.fill(dominatedCount, 0, totalSlots, 0);
+        Arrays.fill(totalDominatedSlots, 0, totalSlots, 0);
+    }
+
+    private void addDominatedSlot(int slot, int dominatedSlot) {
+        if (dominatedSlots[slot] == null) {
+            dominatedSlots[slot] = new int[8];
+
+        } else if (totalDominatedSlots[slot] == dominatedSlots[slot].length) {
+            dominatedSlots[slot] = Arrays.copyOf(dominatedSlots[slot], 2 * totalDominatedSlots[slot]);
+        }
+
+        dominatedSlots[slot][totalDominatedSlots[slot]++] = dominatedSlot;
+    }
+
+    //The chromosomes keep the rank and the crowding distance, and they are placed in the order of the slots
+    private void applyRanking(List<Chromosome> chromosomeList) {
+        Chromosome[] chromosomes = chromosomeList.toArray(new Chromosome[0]);
+
+        for (int position = 0; position < chromosomes.length; position++) {
+            Chromosome chromosome = chromosomes[slots[position]];
+
+            chromosome.setRank(rank[slots[position]]);
+            chromosome.setCrowdingDistance(crowdingDistance[slots[position]]);
+            chromosomeList.set(position, chromosome);
+        }
+    }
+
+    private void calculateRank(List<Chromosome> chromosomeList) {
+        int totalSlots = chromosomeList.size();
+
+        for (int i = 0; i < totalSlots - 1; i++) {
+            for (int j = i + 1; j < totalSlots; j++) {
+                switch (dominates(i, j)) {
                     case Constants.NSGA2_DOMINANT:
-                        chromosomeList.get(i).addDominatedChromosome(chromosomeList.get(j));
-                        chromosomeList.get(j).incrementDominatedCount(1);
+                        addDominatedSlot(i, j);
+                        dominatedCount[j]++;
                         break;
 
                     case Constants.NSGA2_INFERIOR:
-                        chromosomeList.get(i).incrementDominatedCount(1);
-                        chromosomeList.get(j).addDominatedChromosome(chromosomeList.get(i));
+                        dominatedCount[i]++;
+                        addDominatedSlot(j, i);
                         break;
 
                     case Constants.NSGA2_NON_DOMINATED:
@@ -115,96 +189,100 @@ public class NSGAII {
                 }
             }
 
-            if (chromosomeList.get(i).getDominatedCount() == 0) {
-                chromosomeList.get(i).setRank(1);
+            if (dominatedCount[i] == 0) {
+                rank[i] = 1;
             }
         }
 
-        Chromosome lastChromosome = chromosomeList.get(this.chromosomeList.size() - 1);
-        if (lastChromosome.getDominatedCount() == 0) {
-            lastChromosome.setRank(1);
+        //The last slot of the list being ranked, which can be the children list: its size is not always the one of the population
+        if (dominatedCount[totalSlots - 1] == 0) {
+            rank[totalSlots - 1] = 1;
         }
 
-        while (Service.populaceHasUnsetRank(chromosomeList)) {
-            chromosomeList.forEach(chromosome -> {
-                if (chromosome.getRank() != -1) {
-                    chromosome.getDominatedChromosomes().forEach(dominatedChromosome -> {
-                        if (dominatedChromosome.getDominatedCount() > 0) {
-                            dominatedChromosome.incrementDominatedCount(-1);
+        while (Service.populaceHasUnsetRank(rank, totalSlots)) {
+            for (int slot = 0; slot < totalSlots; slot++) {
+                if (rank[slot] != -1) {
+                    for (int position = 0; position < totalDominatedSlots[slot]; position++) {
+                        int dominatedSlot = dominatedSlots[slot][position];
 
-                            if (dominatedChromosome.getDominatedCount() == 0) {
-                                dominatedChromosome.setRank(chromosome.getRank() + 1);
+                        if (dominatedCount[dominatedSlot] > 0) {
+                            dominatedCount[dominatedSlot]--;
+
+                            if (dominatedCount[dominatedSlot] == 0) {
+                                rank[dominatedSlot] = rank[slot] + 1;
                             }
                         }
-                    });
+                    }
                 }
-            });
+            }
         }
     }
 
-    public int dominates(Chromosome chromosome1, Chromosome chromosome2) {
-        if (chromosome2.isChromosomeDominated(config, chromosome1)) {
+    //Dominance of the chromosomes of the slots, read from the arena
+    private int dominates(int slot1, int slot2) {
+        if (arena.isDominated(slot2, slot1)) {
             return Constants.NSGA2_DOMINANT;
-        } 
-        
-        if (chromosome1.isChromosomeDominated(config, chromosome2)) {
+        }
+
+        if (arena.isDominated(slot1, slot2)) {
             return Constants.NSGA2_INFERIOR;
         }
 
         return Constants.NSGA2_NON_DOMINATED;
     }
 
+    //The slots are sorted by each objective, and the crowding distance is accumulated by slot
     private void calculateCrowdingDistance(List<Chromosome> chromosomeList) {
         int size = chromosomeList.size();
 
         for (int objectiveIndex = 1; objectiveIndex <= config.getTotalObjectives(); objectiveIndex++) {
-            int realIndex = Utils.getActualObjectiveIndex(config, objectiveIndex); 
-            int iFinal = realIndex;
+            int realIndex = config.getObjectivePlan()[objectiveIndex - 1];
+
+            int objectivePosition = objectiveIndex - 1;
 
-            chromosomeList.sort(Collections.reverseOrder(Comparator.comparingDouble(c -> c.getObjectiveValue(iFinal))));
+            Service.sortSlots(slots, sortBuffer, size, (slot1, slot2) -> Long.compare(arena.getObjectiveKey(slot2, objectivePosition), arena.getObjectiveKey(slot1, objectivePosition)));
 
-            Service.normalizeSortedObjectiveValues(chromosomeList, realIndex);
+            Service.normalizeSortedObjectiveValues(chromosomeList, slots, realIndex, normalizedObjectiveValues);
 
-            chromosomeList.get(0).setCrowdingDistance(Double.MAX_VALUE);
-            chromosomeList.get(chromosomeList.size() - 1).setCrowdingDistance(Double.MAX_VALUE);
+            crowdingDistance[slots[0]] = Double.MAX_VALUE;
+            crowdingDistance[slots[size - 1]] = Double.MAX_VALUE;
 
-            double maxNormalizedObjectiveValue = selectMaximumNormalizedObjectiveValue(realIndex, chromosomeList);
-            double minNormalizedObjectiveValue = selectMinimumNormalizedObjectiveValue(realIndex, chromosomeList);
+            double maxNormalizedObjectiveValue = selectMaximumNormalizedObjectiveValue(size);
+            double minNormalizedObjectiveValue = selectMinimumNormalizedObjectiveValue(size);
 
             for (int j = 1; j < size; j++)
-                if (chromosomeList.get(j).getCrowdingDistance() < Double.MAX_VALUE) {
-                    double previousChromosomeObjectiveValue = chromosomeList.get(j - 1).getNormalizedObjectiveValues().get(realIndex);
-                    double nextChromosomeObjectiveValue = chromosomeList.get(j + 1).getNormalizedObjectiveValues().get(realIndex);
+                if (crowdingDistance[slots[j]] < Double.MAX_VALUE) {
+                    double previousChromosomeObjectiveValue = normalizedObjectiveValues[slots[j - 1]];
+                    double nextChromosomeObjectiveValue = normalizedObjectiveValues[slots[j + 1]];
                     double objectiveDifference = nextChromosomeObjectiveValue - previousChromosomeObjectiveValue;
                     double minMaxDifference = maxNormalizedObjectiveValue - minNormalizedObjectiveValue;
 
-                    chromosomeList.get(j).setCrowdingDistance(
-                            Service.roundOff(
-                                    chromosomeList.get(j).getCrowdingDistance() +
+                    crowdingDistance[slots[j]] = Service.roundOff(
+                                    crowdingDistance[slots[j]] +
                                             (objectiveDifference / minMaxDifference),
-                                    4));
+                                    4);
                 }
         }
     }
 
-    private double selectMaximumNormalizedObjectiveValue(int objectiveIndex, List<Chromosome> chromosomeList) {
-        double result = chromosomeList.get(0).getNormalizedObjectiveValues().get(objectiveIndex);
+    private double selectMaximumNormalizedObjectiveValue(int size) {
+        double result = normalizedObjectiveValues[slots[0]];
 
-        for (Chromosome chromosome : chromosomeList) {
-            if (chromosome.getNormalizedObjectiveValues().get(objectiveIndex) > result) {
-                result = chromosome.getNormalizedObjectiveValues().get(objectiveIndex);
+        for (int j = 0; j < size; j++) {
+            if (normalizedObjectiveValues[slots[j]] > result) {
+                result = normalizedObjectiveValues[slots[j]];
             }
         }
 
         return result;
     }
 
-    public double selectMinimumNormalizedObjectiveValue(int objectiveIndex, List<Chromosome> chromosomeList) {
-        double result = chromosomeList.get(0).getNormalizedObjectiveValues().get(objectiveIndex);
+    public double selectMinimumNormalizedObjectiveValue(int size) {
+        double result = normalizedObjectiveValues[slots[0]];
 
-        for (Chromosome chromosome : chromosomeList) {
-            if (chromosome.getNormalizedObjectiveValues().get(objectiveIndex) < result) {
-                result = chromosome.getNormalizedObjectiveValues().get(objectiveIndex);
+        for (int j = 0; j < size; j++) {
+            if (normalizedObjectiveValues[slots[j]] < result) {
+                result = normalizedObjectiveValues[slots[j]];
             }
         }
 
@@ -224,28 +302,31 @@ public class NSGAII {
         }
 
         applyMutationOnChildren();
+
+        //The children are created and mutated first, and then the whole generation is evaluated in a single loop
+        BatchEvaluator.evaluate(childrenList, graph, config);
     }
 
     private void processPairSelection() throws Exception {
-        Chromosome parent1 = raffleChromosomeByTournament(new ArrayList<>(chromosomeList), null);
-        Chromosome parent2 = raffleChromosomeByTournament(new ArrayList<>(chromosomeList), parent1);
+        Chromosome parent1 = raffleChromosomeByTournament(chromosomeList, null);
+        Chromosome parent2 = raffleChromosomeByTournament(chromosomeList, parent1);
 
         selectChildren(parent1, parent2);
     }
 
-    private Chromosome raffleChromosomeByTournament(List<Chromosome> copyOfChromosomeList, Chromosome chromosomeAlreadyChosen) {
+    private Chromosome raffleChromosomeByTournament(List<Chromosome> candidateList, Chromosome chromosomeAlreadyChosen) {
         Chromosome chromosome = null;
 
         //If it's the first individual of the pair to be chosen, I'll raffle anyone
         //For the second individual of the pair, we will try x times until an individual different from the first is drawn, or we will use a repeated one even
         if (chromosomeAlreadyChosen == null) {
-            chromosome = raffleChromosomeByTournament(new ArrayList<Chromosome>(copyOfChromosomeList));
+            chromosome = raffleChromosomeByTournament(candidateList);
 
         } else {
             int currentAttemptSelectParentNotRepeated = 0;
 
             while (currentAttemptSelectParentNotRepeated < config.getAttemptSelectParentNotRepeated() && (chromosome == null || chromosomeAlreadyChosen.equals(chromosome))) {
-                chromosome = raffleChromosomeByTournament(new ArrayList<Chromosome>(copyOfChromosomeList));
+                chromosome = raffleChromosomeByTournament(candidateList);
 
                 currentAttemptSelectParentNotRepeated++;
             }
@@ -254,16 +335,16 @@ public class NSGAII {
         return chromosome;
     }
 
-    private Chromosome raffleChromosomeByTournament(List<Chromosome> copyOfChromosomeList) {
+    private Chromosome raffleChromosomeByTournament(List<Chromosome> candidateList) {
         Chromosome chromosome = null;
 
         for (int tour = 0; tour < Constants.DOUBLE_TOURNAMENT; tour++) {
             int chromosomeRaffledIndex = raffleChromosomeIndexByTournament();
 
             if (chromosome == null) { 
-                chromosome = copyOfChromosomeList.get(chromosomeRaffledIndex);
+                chromosome = candidateList.get(chromosomeRaffledIndex);
             } else {
-                chromosome = getBestChromosome(chromosome, copyOfChromosomeList.get(chromosomeRaffledIndex));
+                chromosome = getBestChromosome(chromosome, candidateList.get(chromosomeRaffledIndex));
             }
         }
 
@@ -302,12 +383,12 @@ public class NSGAII {
     }
 
     private List<Chromosome> getCrossoverChildren(Chromosome parent1, Chromosome parent2) throws Exception {
-        List<Chromosome> generatedChildren = Crossover.getCrossover(parent1, parent2, graph, generator, config);
+        List<Chromosome> generatedChildren = Crossover.getCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config, vectorArena);
 
         //If the crossover was executed that generates only one child, I must execute it again, 
         //because we need to produce two children for each pair of parents
         if (generatedChildren.size() == 1) {
-            generatedChildren.addAll(Crossover.getOrderCrossover(parent1, parent2, graph, generator, config));
+            generatedChildren.addAll(Crossover.getOrderCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config, vectorArena));
         }
 
         return generatedChildren;
@@ -357,7 +438,8 @@ public class NSGAII {
             newPopulation.add(combinedPopulation.get(i));
         }
 
-        chromosomeList = new ArrayList<>(newPopulation);
+        vectorArena.releaseDiscarded(combinedPopulation, newPopulation);
+        chromosomeList = newPopulation;
 
         if (chromosomeList.size() != config.getInitialPopulation()) {
             throw new Exception("Invalid population size.");
@@ -4,15 +4,17 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.IntBinaryOperator;
+
 import com.br.ufu.scheduling.model.Chromosome;
 
 public final class Service {
     private Service() {
     }
 
-    public static boolean populaceHasUnsetRank(List<Chromosome> populace) {
-        for (Chromosome chromosome : populace) {
-            if (chromosome.getRank() == -1) {
+    public static boolean populaceHasUnsetRank(int[] rank, int totalSlots) {
+        for (int slot = 0; slot < totalSlots; slot++) {
+            if (rank[slot] == -1) {
                 return true;
             }
         }
@@ -20,17 +22,45 @@ public final class Service {
         return false;
     }
 
-    public static void normalizeSortedObjectiveValues(List<Chromosome> chromosomeList, int objectiveIndex) {
-        double actualMin = chromosomeList.get(0).getObjectiveValue(objectiveIndex);
-        double actualMax = chromosomeList.get(chromosomeList.size() - 1).getObjectiveValue(objectiveIndex);
-
-        for (Chromosome chromosome : chromosomeList) {
-            chromosome.setNormalizedObjectiveValue(
-                    objectiveIndex,
-                    Service.minMaxNormalization(
-                            chromosome.getObjectiveValue(objectiveIndex),
-                            actualMin,
-                            actualMax));
+    //The slots are sorted by the objective value, so the first and the last ones have the minimum and the maximum values
+    public static void normalizeSortedObjectiveValues(List<Chromosome> chromosomeList, int[] sortedSlots, int objectiveIndex, double[] normalizedObjectiveValues) {
+        double actualMin = chromosomeList.get(sortedSlots[0]).getObjectiveValue(objectiveIndex);
+        double actualMax = chromosomeList.get(sortedSlots[chromosomeList.size() - 1]).getObjectiveValue(objectiveIndex);
+
+        for (int slot = 0; slot < chromosomeList.size(); slot++) {
+            normalizedObjectiveValues[slot] = Service.minMaxNormalization(
+                    chromosomeList.get(slot).getObjectiveValue(objectiveIndex),
+                    actualMin,
+                    actualMax);
+        }
+    }
+
+    //Stable sort (merge sort) of the first totalSlots positions, like List.sort: the slots with the same value keep their order.
+    //The buffer, with at least totalSlots positions, is informed by the caller to be reused in all the sorts
+    public static void sortSlots(int[] slots, int[] buffer, int totalSlots, IntBinaryOperator comparator) {
+        if (buffer.length < totalSlots) {
+            throw new IllegalArgumentException("The buffer must have at least " + totalSlots + " positions. Size: " + buffer.length + ".");
+        }
+
+        for (int width = 1; width < totalSlots; width *= 2) {
+            for (int left = 0; left < totalSlots - width; left += 2 * width) {
+                mergeSlots(slots, buffer, left, left + width, Integer.min(left + 2 * width, totalSlots), comparator);
+            }
+        }
+    }
+
+    private static void mergeSlots(int[] slots, int[] buffer, int left, int middle, int right, IntBinaryOperator comparator) {
+        System.arraycopy(slots, left, buffer, left, right - left);
+
+        int leftPosition = left;
+        int rightPosition = middle;
+
+        for (int position = left; position < right; position++) {
+            if (rightPosition < right && (leftPosition == middle || comparator.applyAsInt(buffer[rightPosition], buffer[leftPosition]) < 0)) {
+                slots[position] = buffer[rightPosition++];
+            } else {
+                slots[position] = buffer[leftPosition++];
+            }
         }
     }
 
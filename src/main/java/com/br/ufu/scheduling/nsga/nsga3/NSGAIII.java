@@ -3,9 +3,12 @@ package com.br.ufu.scheduling.nsga.nsga3;
 import java.io.BufferedWriter;
 import java.util.*;
 
+import com.br.ufu.scheduling.model.BatchEvaluator;
 import com.br.ufu.scheduling.model.Chromosome;
+import com.br.ufu.scheduling.model.ConvergenceStop;
 import com.br.ufu.scheduling.model.DataForSpreadsheet;
 import com.br.ufu.scheduling.model.Graph;
+import com.br.ufu.scheduling.model.ScheduleEvaluator;
 import com.br.ufu.scheduling.utils.Configuration;
 import com.br.ufu.scheduling.utils.Constants;
 import com.br.ufu.scheduling.utils.Crossover;
@@ -26,6 +29,7 @@ public class NSGAIII {
     private List<Chromosome> childrenList   = new ArrayList<>();
 
     private int generationAccumulated;
+    private final ConvergenceStop convergenceStop = new ConvergenceStop();
 
     public NSGAIII(Configuration config, Graph graph, Random generator) throws Exception {
         this.config = config;
@@ -46,7 +50,7 @@ public class NSGAIII {
     public void execute(long initialTime) throws Exception {
         initialize();
 
-        while (generationAccumulated < config.getTotalGenerations()) {
+        while (generationAccumulated < config.getTotalGenerations() && !convergenceStop.isStopRequested()) {
             if (config.isPrintIterations()) {
                 System.out.println("############################\n");
                 System.out.println("####### GENERATION: " + (generationAccumulated + 1) + " #######\n");
@@ -58,11 +62,15 @@ public class NSGAIII {
             finalizeGeneration();
         }
 
+        convergenceStop.printBetterChromosomeFound();
         selectParetoBorder();
         showResult(initialTime);
     }
 
     private void initialize() throws Exception {
+        convergenceStop.reset();
+        ScheduleEvaluator.getInstance().setConvergenceListener(convergenceStop);
+
         generationAccumulated = 0;
 
         generateInitialPopulation();
@@ -107,28 +115,31 @@ public class NSGAIII {
         }
 
         applyMutationOnChildren();
+
+        //The children are created and mutated first, and then the whole generation is evaluated in a single loop
+        BatchEvaluator.evaluate(childrenList, graph, config);
     }
 
     private void processPairSelection() throws Exception {
-        Chromosome parent1 = raffleChromosomeByTournament(new ArrayList<>(chromosomeList), null);
-        Chromosome parent2 = raffleChromosomeByTournament(new ArrayList<>(chromosomeList), parent1);
+        Chromosome parent1 = raffleChromosomeByTournament(chromosomeList, null);
+        Chromosome parent2 = raffleChromosomeByTournament(chromosomeList, parent1);
 
         selectChildren(parent1, parent2);
     }
 
-    private Chromosome raffleChromosomeByTournament(List<Chromosome> copyOfChromosomeList, Chromosome chromosomeAlreadyChosen) {
+    private Chromosome raffleChromosomeByTournament(List<Chromosome> candidateList, Chromosome chromosomeAlreadyChosen) {
         Chromosome chromosome = null;
 
         //If it's the first individual of the pair to be chosen, I'll raffle anyone
         //For the second individual of the pair, we will try x times until an individual different from the first is drawn, or we will use a repeated one even
         if (chromosomeAlreadyChosen == null) {
-            chromosome = raffleChromosomeByTournament(new ArrayList<Chromosome>(copyOfChromosomeList));
+            chromosome = raffleChromosomeByTournament(candidateList);
 
         } else {
             int currentAttemptSelectParentNotRepeated = 0;
 
             while (currentAttemptSelectParentNotRepeated < config.getAttemptSelectParentNotRepeated() && (chromosome == null || chromosomeAlreadyChosen.equals(chromosome))) {
-                chromosome = raffleChromosomeByTournament(new ArrayList<Chromosome>(copyOfChromosomeList));
+                chromosome = raffleChromosomeByTournament(candidateList);
 
                 currentAttemptSelectParentNotRepeated++;
             }
@@ -137,16 +148,16 @@ public class NSGAIII {
         return chromosome;
     }
 
-    private Chromosome raffleChromosomeByTournament(List<Chromosome> copyOfChromosomeList) {
+    private Chromosome raffleChromosomeByTournament(List<Chromosome> candidateList) {
         Chromosome chromosome = null;
 
         for (int tour = 0; tour < Constants.DOUBLE_TOURNAMENT; tour++) {
             int chromosomeRaffledIndex = raffleChromosomeIndexByTournament();
 
             if (chromosome == null) {
-                chromosome = copyOfChromosomeList.get(chromosomeRaffledIndex);
+                chromosome = candidateList.get(chromosomeRaffledIndex);
             } else {
-                chromosome = getBestChromosome(chromosome, copyOfChromosomeList.get(chromosomeRaffledIndex));
+                chromosome = getBestChromosome(chromosome, candidateList.get(chromosomeRaffledIndex));
             }
         }
 
@@ -185,12 +196,12 @@ public class NSGAIII {
     }
 
     private List<Chromosome> getCrossoverChildren(Chromosome parent1, Chromosome parent2) throws Exception {
-        List<Chromosome> generatedChildren = Crossover.getCrossover(parent1, parent2, graph, generator, config);
+        List<Chromosome> generatedChildren = Crossover.getCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config);
 
         //If the crossover was executed that generates only one child, I must execute it again,
         //because we need to produce two children for each pair of parents
         if (generatedChildren.size() == 1) {
-            generatedChildren.addAll(Crossover.getOrderCrossover(parent1, parent2, graph, generator, config));
+            generatedChildren.addAll(Crossover.getOrderCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config));
         }
 
         return generatedChildren;
@@ -1,6 +1,7 @@
 package com.br.ufu.scheduling.nsga.nsga3;
 
 import com.br.ufu.scheduling.model.Chromosome;
+import com.br.ufu.scheduling.model.PopulationArena;
 import com.br.ufu.scheduling.utils.Configuration;
 
 import java.util.*;
@@ -11,118 +12,95 @@ public class NonDominatedSorting {
         this.config = config;
     }
 
-    private final String attributeId = getClass().getName();
+    //Indexed by the position of the solution in the list (slot), and reused in all the generations
+    private int[] dominateMe = new int[0]; // dominateMe[i] contains the number of population dominating i
+    private int[][] iDominate = new int[0][]; // iDominate[k] contains the population dominated by k
+    private int[] totalIDominate = new int[0];
+    private int[] slotsByFront = new int[0]; // The individuals of the front i come after the ones of the front i - 1
+    private final PopulationArena arena = new PopulationArena(); // Objective values of the solutions, by slot
 
     public List<List<Chromosome>> compute(List<Chromosome> solutionList) {
-        List<Chromosome> population = solutionList;
+        int populationSize = solutionList.size();
 
-        // dominateMe[i] contains the number of population dominating i
-        int[] dominateMe = new int[population.size()];
-
-        // iDominate[k] contains the list of population dominated by k
-        List<List<Integer>> iDominate = new ArrayList<>(population.size());
-
-        // front[i] contains the list of individuals belonging to the front i
-        ArrayList<List<Integer>> front = new ArrayList<>(population.size() + 1);
-
-        // Initialize the fronts
-        for (int i = 0; i < population.size() + 1; i++) {
-            front.add(new LinkedList<Integer>());
-        }
+        prepareVectors(populationSize);
+        arena.loadObjectiveValues(solutionList, config.getTotalObjectives());
 
         // Fast non dominated sorting algorithm
         // Contribution of Guillaume Jacquenot
-        for (int p = 0; p < population.size(); p++) {
-            // Initialize the list of individuals that i dominate and the number
-            // of individuals that dominate me
-            iDominate.add(new LinkedList<Integer>());
-            dominateMe[p] = 0;
-        }
-
         int flagDominate;
-        for (int p = 0; p < (population.size() - 1); p++) {
+        for (int p = 0; p < (populationSize - 1); p++) {
             // For all q individuals , calculate if p dominates q or vice versa
-            for (int q = p + 1; q < population.size(); q++) {
-                flagDominate = compare(solutionList.get(p), solutionList.get(q));
+            for (int q = p + 1; q < populationSize; q++) {
+                flagDominate = arena.dominanceTest(p, q);
 
                 if (flagDominate == -1) {
-                    iDominate.get(p).add(q);
+                    addIDominate(p, q);
                     dominateMe[q]++;
                 } else if (flagDominate == 1) {
-                    iDominate.get(q).add(p);
+                    addIDominate(q, p);
                     dominateMe[p]++;
                 }
             }
         }
 
-        for (int i = 0; i < population.size(); i++) {
+        int totalSlotsByFront = 0;
+
+        for (int i = 0; i < populationSize; i++) {
             if (dominateMe[i] == 0) {
-                front.get(0).add(i);
-                solutionList.get(i).attributes().put(attributeId, 0);
+                slotsByFront[totalSlotsByFront++] = i;
             }
         }
 
-        // Obtain the rest of fronts
-        int i = 0;
-        Iterator<Integer> it1, it2; // Iterators
-        while (!front.get(i).isEmpty()) {
-            i++;
-            it1 = front.get(i - 1).iterator();
-            while (it1.hasNext()) {
-                it2 = iDominate.get(it1.next()).iterator();
-                while (it2.hasNext()) {
-                    int index = it2.next();
+        // Obtain the rest of fronts: the front i has the individuals dominated only by the fronts before it
+        List<List<Chromosome>> rankedSubPopulations = new ArrayList<>();
+        int frontStart = 0;
+
+        while (frontStart < totalSlotsByFront) {
+            int frontEnd = totalSlotsByFront;
+            List<Chromosome> front = new ArrayList<>(frontEnd - frontStart);
+
+            for (int position = frontStart; position < frontEnd; position++) {
+                int slot = slotsByFront[position];
+
+                front.add(solutionList.get(slot));
+                solutionList.get(slot).setRank(rankedSubPopulations.size() + 1);
+
+                for (int dominatedPosition = 0; dominatedPosition < totalIDominate[slot]; dominatedPosition++) {
+                    int index = iDominate[slot][dominatedPosition];
                     dominateMe[index]--;
                     if (dominateMe[index] == 0) {
-                        front.get(i).add(index);
-                        solutionList.get(index).attributes().put(attributeId, i);
+                        slotsByFront[totalSlotsByFront++] = index;
                     }
                 }
             }
-        }
-
-        List<List<Chromosome>> rankedSubPopulations;
-
-        rankedSubPopulations = new ArrayList<>();
-        // 0,1,2,....,i-1 are fronts, then i fronts
-        for (int j = 0; j < i; j++) {
-            rankedSubPopulations.add(j, new ArrayList<>(front.get(j).size()));
-            it1 = front.get(j).iterator();
-            while (it1.hasNext()) {
-                rankedSubPopulations.get(j).add(solutionList.get(it1.next()));
-            }
-        }
 
-        for (int r = 0; r < rankedSubPopulations.size(); r++) {
-            for (int c = 0; c < rankedSubPopulations.get(r).size(); c++) {
-                rankedSubPopulations.get(r).get(c).setRank(r + 1);
-            }
+            rankedSubPopulations.add(front);
+            frontStart = frontEnd;
         }
 
         return rankedSubPopulations;
     }
 
-    public int compare(Chromosome solution1, Chromosome solution2) {
-        return dominanceTest(solution1.objectives(config.getTotalObjectives()), solution2.objectives(config.getTotalObjectives())) ;
+    private void prepareVectors(int populationSize) {
+        if (dominateMe.length < populationSize) {
+            dominateMe = new int[populationSize];
+            totalIDominate = new int[populationSize];
+            slotsByFront = new int[populationSize];
+            iDominate = Arrays.copyOf(iDominate, populationSize);
+        }
+
+        Arrays.fill(dominateMe, 0, populationSize, 0);
+        Arrays.fill(totalIDominate, 0, populationSize, 0);
     }
 
-    public static int dominanceTest(double[] vector1, double[] vector2) {
-        int bestIsOne = 0;
-        int bestIsTwo = 0;
-        int result;
-        for (int i = 0; i < vector1.length; i++) {
-            double value1 = vector1[i];
-            double value2 = vector2[i];
-            if (value1 != value2) {
-                if (value1 < value2) {
-                    bestIsOne = 1;
-                }
-                if (value2 < value1) {
-                    bestIsTwo = 1;
-                }
-            }
+    private void addIDominate(int slot, int dominatedSlot) {
+        if (iDominate[slot] == null) {
+            iDominate[slot] = new int[8];
+
+        } else if (totalIDominate[slot] == iDominate[slot].length) {
+            iDominate[slot] = Arrays.copyOf(iDominate[slot], 2 * totalIDominate[slot]);
         }
-        result = Integer.compare(bestIsTwo, bestIsOne);
-        return result;
+
+        iDominate[slot][totalIDominate[slot]++] = dominatedSlot;
     }
 }
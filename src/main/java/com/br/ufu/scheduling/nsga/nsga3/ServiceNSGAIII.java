@@ -8,6 +8,11 @@ import java.util.*;
 
 public final class ServiceNSGAIII {
     private final Configuration config;
+
+    //Translated and normalized objectives of the solutions of the fronts, in normalizedObjectives[slot * numberOfObjectives + objective].
+    //The slot is the position of the solution in the fronts, one after the other, and the vector is reused in all the generations
+    private double[] normalizedObjectives = new double[0];
+
     public ServiceNSGAIII(Configuration config) {
         this.config = config;
     }
@@ -30,7 +35,7 @@ public final class ServiceNSGAIII {
         List<ReferencePoint<Chromosome>> referencePoints = new Vector<>() ;
         (new ReferencePoint<Chromosome>()).generateReferencePoints(referencePoints,numberOfObjectives, 6);
 
-        associate(fronts, referencePoints);
+        associate(fronts, referencePoints, numberOfObjectives);
 
         for (ReferencePoint<Chromosome> rp : referencePoints) {
             rp.sort();
@@ -79,14 +84,16 @@ public final class ServiceNSGAIII {
         this.referencePointsTree.get(key).add(rp);
     }
 
-    public void associate(List<List<Chromosome>> fronts, List<ReferencePoint<Chromosome>> referencePoints) {
+    public void associate(List<List<Chromosome>> fronts, List<ReferencePoint<Chromosome>> referencePoints, int numberOfObjectives) {
+        int slot = 0;
 
         for (int t = 0; t < fronts.size(); t++) {
             for (Chromosome s : fronts.get(t)) {
                 int min_rp = -1;
                 double min_dist = Double.MAX_VALUE;
+                int firstPosition = slot++ * numberOfObjectives;
                 for (int r = 0; r < referencePoints.size(); r++) {
-                    double d = perpendicularDistance(referencePoints.get(r).position, (List<Double>) getAttribute(s));
+                    double d = perpendicularDistance(referencePoints.get(r).position, normalizedObjectives, firstPosition);
                     if (d < min_dist) {
                         min_dist = d;
                         min_rp = r;
@@ -101,17 +108,18 @@ public final class ServiceNSGAIII {
         }
     }
 
-    public double perpendicularDistance(List<Double> direction, List<Double> point) {
+    //The point starts at the first position informed
+    public double perpendicularDistance(List<Double> direction, double[] point, int firstPosition) {
         double numerator = 0, denominator = 0;
         for (int i = 0; i < direction.size(); i += 1) {
-            numerator += direction.get(i) * point.get(i);
+            numerator += direction.get(i) * point[firstPosition + i];
             denominator += Math.pow(direction.get(i), 2.0);
         }
         double k = numerator / denominator;
 
         double d = 0;
         for (int i = 0; i < direction.size(); i += 1) {
-            d += Math.pow(k * direction.get(i) - point.get(i), 2.0);
+            d += Math.pow(k * direction.get(i) - point[firstPosition + i], 2.0);
         }
         return Math.sqrt(d);
     }
@@ -120,6 +128,15 @@ public final class ServiceNSGAIII {
         List<Double> ideal_point;
         ideal_point = new ArrayList<>(numberOfObjectives);
 
+        int totalSolutions = 0;
+        for (List<Chromosome> list : fronts) {
+            totalSolutions += list.size();
+        }
+
+        if (normalizedObjectives.length < totalSolutions * numberOfObjectives) {
+            normalizedObjectives = new double[totalSolutions * numberOfObjectives];
+        }
+
         for (int f = 0; f < numberOfObjectives; f += 1) {
             double minf = Double.MAX_VALUE;
             for (int i = 0; i < fronts.get(0).size(); i += 1) // min values must appear in the first front
@@ -128,12 +145,10 @@ public final class ServiceNSGAIII {
             }
             ideal_point.add(minf);
 
+            int slot = 0;
             for (List<Chromosome> list : fronts) {
                 for (Chromosome s : list) {
-                    if (f == 0) // in the first objective we create the vector of conv_objs
-                        setAttribute(s, new ArrayList<Double>());
-
-                    getAttribute(s).add(s.objectives(numberOfObjectives)[f] - minf);
+                    normalizedObjectives[slot++ * numberOfObjectives + f] = s.objectives(numberOfObjectives)[f] - minf;
                 }
             }
         }
@@ -161,9 +176,10 @@ public final class ServiceNSGAIII {
 
     private double ASF(Chromosome s, int index, int numberOfObjectives) {
         double max_ratio = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < s.objectives(numberOfObjectives).length; i++) {
+        double[] objectives = s.objectives(numberOfObjectives);
+        for (int i = 0; i < objectives.length; i++) {
             double weight = (index == i) ? 1.0 : 0.000001;
-            max_ratio = Math.max(max_ratio, s.objectives(numberOfObjectives)[i] / weight);
+            max_ratio = Math.max(max_ratio, objectives[i] / weight);
         }
         return max_ratio;
     }
@@ -237,33 +253,22 @@ public final class ServiceNSGAIII {
     }
 
     public void normalizeObjectives(List<Double> intercepts, List<Double> ideal_point, List<List<Chromosome>> fronts, int numberOfObjectives) {
+        int slot = 0;
         for (int t = 0; t < fronts.size(); t += 1) {
-            for (Chromosome s : fronts.get(t)) {
+            for (int s = 0; s < fronts.get(t).size(); s++) {
+                int firstPosition = slot++ * numberOfObjectives;
 
                 for (int f = 0; f < numberOfObjectives; f++) {
-                    List<Double> conv_obj = (List<Double>) getAttribute(s);
                     if (Math.abs(intercepts.get(f) - ideal_point.get(f)) > 10e-10) {
-                        conv_obj.set(f, conv_obj.get(f) / (intercepts.get(f) - ideal_point.get(f)));
+                        normalizedObjectives[firstPosition + f] = normalizedObjectives[firstPosition + f] / (intercepts.get(f) - ideal_point.get(f));
                     } else {
-                        conv_obj.set(f, conv_obj.get(f) / (10e-10));
+                        normalizedObjectives[firstPosition + f] = normalizedObjectives[firstPosition + f] / (10e-10);
                     }
                 }
             }
         }
     }
 
-    public void setAttribute(Chromosome solution, List<Double> value) {
-        solution.attributes().put(getAttributeIdentifier(), value);
-    }
-
-    public List<Double> getAttribute(Chromosome solution) {
-        return (List<Double>) solution.attributes().get(getAttributeIdentifier());
-    }
-
-    public Object getAttributeIdentifier() {
-        return this.getClass();
-    }
-
     public static boolean populaceHasUnsetRank(List<Chromosome> populace) {
         for (Chromosome chromosome : populace) {
             if (chromosome.getRank() == -1) {
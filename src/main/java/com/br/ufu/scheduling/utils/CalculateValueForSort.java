@@ -21,6 +21,24 @@ public class CalculateValueForSort {
         }
     }
 
+    //Greatest value for sort of a chromosome whose fitness is not greater than the one informed in each objective (index of Constants).
+    //The weighted average with a negative weight and the harmonic average (with a normalized value not positive) do not increase with the fitness, so they are not bounded.
+    public static double calculateUpperBound(double[] maxFitnessByObjective, Configuration config, List<Integer> objectives) {
+        switch (config.getSortFunctionType()) {
+        case WEIGHT:
+            return calculateUpperBoundByWeight(maxFitnessByObjective, config, objectives);
+
+        case SIMPLE_AVERAGE:
+            return calculateUpperBoundBySimpleAverage(maxFitnessByObjective, config, objectives);
+
+        case HARMONIC_AVERAGE:
+            return Double.POSITIVE_INFINITY;
+
+        default:
+            throw new IllegalArgumentException("Sort Function type not implemented.");
+        }
+    }
+
     public static double calculateAverageBySimpleAverage(Chromosome chromosome, Configuration config) {
         double accumulatedValue = 0.0;
 
@@ -45,30 +63,7 @@ public class CalculateValueForSort {
         double accumulatedValue = 0.0;
 
         for (Integer objective : objectives) {
-            switch (objective) {
-            case 1:
-                accumulatedValue += chromosome.getObjectiveValue(config.getObjective1()) * config.getWeight1();
-                break;
-
-            case 2:
-                accumulatedValue += chromosome.getObjectiveValue(config.getObjective2()) * config.getWeight2();
-                break;
-
-            case 3:
-                accumulatedValue += chromosome.getObjectiveValue(config.getObjective3()) * config.getWeight3();
-                break;
-
-            case 4:
-                accumulatedValue += chromosome.getObjectiveValue(config.getObjective4()) * config.getWeight4();
-                break;
-
-            case 5:
-                accumulatedValue += chromosome.getObjectiveValue(config.getObjective5()) * config.getWeight5();
-                break;
-
-            default:
-                throw new IllegalArgumentException("Objective invalid. Value: " + objective + ".");
-            }
+            accumulatedValue += chromosome.getObjectiveValue(config.getObjective(objective)) * config.getWeight(objective);
         }
 
         return accumulatedValue /= objectives.size();
@@ -84,26 +79,33 @@ public class CalculateValueForSort {
         return accumulatedValue / objectives.size();
     }
 
-    private static double getValueForObjectiveBySimpleAverage(Chromosome chromosome, Configuration config, int objective) {
-        switch (objective) {
-        case 1:
-            return getNormalizedObjectiveValue(config, config.getObjective1(), config.getMaxObjectiveValue1(), config.getMinObjectiveValue1(), chromosome);
+    //Same operations of calculateAverageByWeight, so the bound of a chromosome with the final fitness is exactly its value for sort
+    private static double calculateUpperBoundByWeight(double[] maxFitnessByObjective, Configuration config, List<Integer> objectives) {
+        double accumulatedValue = 0.0;
 
-        case 2:
-            return getNormalizedObjectiveValue(config, config.getObjective2(), config.getMaxObjectiveValue2(), config.getMinObjectiveValue2(), chromosome);
+        for (Integer objective : objectives) {
+            if (config.getWeight(objective) < 0.0) {
+                return Double.POSITIVE_INFINITY;
+            }
 
-        case 3:
-            return getNormalizedObjectiveValue(config, config.getObjective3(), config.getMaxObjectiveValue3(), config.getMinObjectiveValue3(), chromosome);
+            accumulatedValue += maxFitnessByObjective[config.getObjective(objective)] * config.getWeight(objective);
+        }
 
-        case 4:
-            return getNormalizedObjectiveValue(config, config.getObjective4(), config.getMaxObjectiveValue4(), config.getMinObjectiveValue4(), chromosome);
+        return accumulatedValue /= objectives.size();
+    }
 
-        case 5:
-            return getNormalizedObjectiveValue(config, config.getObjective5(), config.getMaxObjectiveValue5(), config.getMinObjectiveValue5(), chromosome);
+    private static double calculateUpperBoundBySimpleAverage(double[] maxFitnessByObjective, Configuration config, List<Integer> objectives) {
+        double accumulatedValue = 0.0;
 
-        default:
-            throw new IllegalArgumentException("Objective invalid. Value: " + objective + ".");
+        for (Integer objective : objectives) {
+            accumulatedValue += calculateNormalizedObjectiveValue(config, maxFitnessByObjective[config.getObjective(objective)], config.getMaxObjectiveValue(objective), config.getMinObjectiveValue(objective));
         }
+
+        return accumulatedValue / objectives.size();
+    }
+
+    private static double getValueForObjectiveBySimpleAverage(Chromosome chromosome, Configuration config, int objective) {
+        return getNormalizedObjectiveValue(config, config.getObjective(objective), config.getMaxObjectiveValue(objective), config.getMinObjectiveValue(objective), chromosome);
     }
 
     private static double calculateAverageByHarmonicAverage(Chromosome chromosome, Configuration config, List<Integer> objectives) {
@@ -117,56 +119,11 @@ public class CalculateValueForSort {
     }
 
     private static double getValueForObjectiveByHarmonicAverage(Chromosome chromosome, Configuration config, int objective) {
-        switch (objective) {
-        case 1:
-            return (1 / getNormalizedObjectiveValue(config, config.getObjective1(), config.getMaxObjectiveValue1(), config.getMinObjectiveValue1(), chromosome));
-
-        case 2:
-            return (1 / getNormalizedObjectiveValue(config, config.getObjective2(), config.getMaxObjectiveValue2(), config.getMinObjectiveValue2(), chromosome));
-
-        case 3:
-            return (1 / getNormalizedObjectiveValue(config, config.getObjective3(), config.getMaxObjectiveValue3(), config.getMinObjectiveValue3(), chromosome));
-
-        case 4:
-            return (1 / getNormalizedObjectiveValue(config, config.getObjective4(), config.getMaxObjectiveValue4(), config.getMinObjectiveValue4(), chromosome));
-
-        case 5:
-            return (1 / getNormalizedObjectiveValue(config, config.getObjective5(), config.getMaxObjectiveValue5(), config.getMinObjectiveValue5(), chromosome));
-
-        default:
-            throw new IllegalArgumentException("Objective invalid. Value: " + objective + ".");
-        }
+        return (1 / getNormalizedObjectiveValue(config, config.getObjective(objective), config.getMaxObjectiveValue(objective), config.getMinObjectiveValue(objective), chromosome));
     }
 
     private static double getNormalizedObjectiveValue(Configuration config, Integer objectiveIndex, double maxObjectiveValue, double minObjectiveValue, Chromosome chromosome) {
-        double objectiveValue = 0.0;
-
-        switch (objectiveIndex) {
-            case Constants.MAKESPAN:
-                objectiveValue = calculateNormalizedObjectiveValue(config, chromosome.getFitnessForSLength(), maxObjectiveValue, minObjectiveValue);
-                break;
-
-            case Constants.LOAD_BALANCE:
-                objectiveValue = calculateNormalizedObjectiveValue(config, chromosome.getFitnessForLoadBalance(), maxObjectiveValue, minObjectiveValue);
-                break;
-
-            case Constants.FLOW_TIME:
-                objectiveValue = calculateNormalizedObjectiveValue(config, chromosome.getFitnessForFlowTime(), maxObjectiveValue, minObjectiveValue);
-                break;
-
-            case Constants.COMMUNICATION_COST:
-                objectiveValue = calculateNormalizedObjectiveValue(config, chromosome.getFitnessForCommunicationCost(), maxObjectiveValue, minObjectiveValue);
-                break;
-
-            case Constants.WAITING_TIME:
-                objectiveValue = calculateNormalizedObjectiveValue(config, chromosome.getFitnessForWaitingTime(), maxObjectiveValue, minObjectiveValue);
-                break;
-
-            default:
-                throw new IllegalArgumentException("Type of objective invalid. Value: " + objectiveIndex + ".");
-        }
-
-        return objectiveValue;
+        return calculateNormalizedObjectiveValue(config, chromosome.getObjectiveValue(objectiveIndex), maxObjectiveValue, minObjectiveValue);
     }
 
     private static double calculateNormalizedObjectiveValue(Configuration config, double objectiveValue, double maxObjectiveValue, double minObjectiveValue) {
@@ -10,6 +10,7 @@ import java.util.Arrays;
 
 import com.br.ufu.scheduling.enums.AlgorithmType;
 import com.br.ufu.scheduling.enums.MetricType;
+import com.br.ufu.scheduling.enums.DecoderType;
 import com.br.ufu.scheduling.enums.MutationType;
 import com.br.ufu.scheduling.enums.SelectionType;
 import com.br.ufu.scheduling.enums.SortFunctionType;
@@ -39,6 +40,8 @@ public class Configuration {
 	private Boolean printBestChromosomeOfGeneration;
 	private Boolean convergenceForTheBestSolution;
 	private String taskGraphFileName;
+	private String processorSpeedFactors = Constants.IDENTICAL_PROCESSORS;
+	private String executionTimeFileName = Constants.IDENTICAL_PROCESSORS;
 	private Boolean graphWithCommunicationCost;
 	private Boolean generateRandomCommunicationCostForNoCostDag;
 	private Boolean generateCommunicationCostFromDAGWithoutCommunicationCost;
@@ -47,6 +50,10 @@ public class Configuration {
 	private Integer seed;
 	private Boolean systemOutPrintInFile;
 	private Boolean printHiperVolumeInConsole;
+	private Boolean incrementalEvaluation = false;
+	private Integer fitnessCacheSize = 0;
+	private Integer evaluationLanes = 1;
+	private DecoderType decoderType = DecoderType.APPEND;
 
 	//AGMO
 	private Boolean executeMultiObjectiveGA;
@@ -59,39 +66,18 @@ public class Configuration {
 	private Integer totalGenerationsToApplyMutation;
 	private SortFunctionType sortFunctionType;
 	private Boolean calculateMaximusAndMinimusForNormalization;
-	private Integer objective1;
-	private Integer objective2;
-	private Integer objective3;
-	private Integer objective4;
-	private Integer objective5;
-	private Double weight1;
-	private Double weight2;
-	private Double weight3;
-	private Double weight4;
-	private Double weight5;
+	//The objectives, the weights and the normalization data are indexed by the position of the objective minus one (objective1 is in the index 0).
+	//They are set by the numbered setters, called by README.conf and by the normalization files
+	private final Integer[] objectives = new Integer[MetricType.getTotalMetrics()];
+	private int[] objectivePlan; //Built from the objectives above on the first use, not read from README.conf
+	private final Double[] weights = new Double[MetricType.getTotalMetrics()];
 
 	//AGMO Normalization Data
-	private Double maxObjectiveValue1;
-	private Double minObjectiveValue1;
-	private Double maxObjectiveValue2;
-	private Double minObjectiveValue2;
-	private Double maxObjectiveValue3;
-	private Double minObjectiveValue3;
-	private Double maxObjectiveValue4;
-	private Double minObjectiveValue4;
-	private Double maxObjectiveValue5;
-	private Double minObjectiveValue5;
-	
-    private Double realMaxObjectiveValue1;
-    private Double realMinObjectiveValue1;
-    private Double realMaxObjectiveValue2;
-    private Double realMinObjectiveValue2;
-    private Double realMaxObjectiveValue3;
-    private Double realMinObjectiveValue3;
-    private Double realMaxObjectiveValue4;
-    private Double realMinObjectiveValue4;
-    private Double realMaxObjectiveValue5;
-    private Double realMinObjectiveValue5;
+	private final Double[] maxObjectiveValues = new Double[MetricType.getTotalMetrics()];
+	private final Double[] minObjectiveValues = new Double[MetricType.getTotalMetrics()];
+
+	private final Double[] realMaxObjectiveValues = new Double[MetricType.getTotalMetrics()];
+	private final Double[] realMinObjectiveValues = new Double[MetricType.getTotalMetrics()];
 
 	//CSV File
 	private Boolean generateCsvFile;
@@ -104,6 +90,7 @@ public class Configuration {
 	private int selection;
 	private int algorithm;
 	private int sortFunction;
+	private int decoder;
 
 	public Configuration() throws Exception {
 		readConfiguration(null);
@@ -197,6 +184,14 @@ public class Configuration {
 		return taskGraphFileName;
 	}
 
+	public String getProcessorSpeedFactors() {
+		return processorSpeedFactors;
+	}
+
+	public String getExecutionTimeFileName() {
+		return executionTimeFileName;
+	}
+
 	public Boolean isGraphWithCommunicationCost() {
 		return graphWithCommunicationCost;
 	}
@@ -229,6 +224,22 @@ public class Configuration {
         return printHiperVolumeInConsole;
     }
 
+    public Boolean isIncrementalEvaluation() {
+        return incrementalEvaluation;
+    }
+
+    public Integer getFitnessCacheSize() {
+        return fitnessCacheSize;
+    }
+
+    public DecoderType getDecoderType() {
+        return decoderType;
+    }
+
+    public Integer getEvaluationLanes() {
+        return evaluationLanes;
+    }
+
     public Boolean isExecuteMultiObjectiveGA() {
 		return executeMultiObjectiveGA;
 	}
@@ -269,126 +280,58 @@ public class Configuration {
 		return calculateMaximusAndMinimusForNormalization;
 	}
 
-    public Integer getObjective1() {
-		return objective1;
-	}
-
-	public Integer getObjective2() {
-		return objective2;
-	}
-
-	public Integer getObjective3() {
-		return objective3;
-	}
-
-	public Integer getObjective4() {
-		return objective4;
-	}
-
-	public Integer getObjective5() {
-		return objective5;
-	}
-
-	public Double getWeight1() {
-		return weight1;
-	}
-
-	public Double getWeight2() {
-		return weight2;
-	}
-
-	public Double getWeight3() {
-		return weight3;
-	}
-
-	public Double getWeight4() {
-		return weight4;
+	//Index of the objective (Constants.MAKESPAN until Constants.WAITING_TIME) in the position informed, from 1 until the total of metrics
+	public Integer getObjective(int position) {
+		return objectives[getIndexOfPosition(position)];
 	}
 
-	public Double getWeight5() {
-		return weight5;
-	}
+	//Position of the objective in the experiment, or 0 when the objective is not used
+	public int getObjectivePosition(int objectiveIndex) {
+		for (int index = 0; index < objectives.length; index++) {
+			if (objectives[index] != null && objectives[index] == objectiveIndex) {
+				return index + 1;
+			}
+		}
 
-	public Double getMaxObjectiveValue1() {
-		return maxObjectiveValue1;
+		return 0;
 	}
 
-	public Double getMinObjectiveValue1() {
-		return minObjectiveValue1;
-	}
+	//Indexes of the objectives of the experiment (Constants.MAKESPAN until Constants.WAITING_TIME), where objectivePlan[i - 1] is the objective i.
+	//It is resolved once, so the comparisons of the chromosomes do not read the objectives of the configuration
+	public int[] getObjectivePlan() {
+		if (objectivePlan == null) {
+			int[] plan = new int[totalObjectives];
 
-	public Double getMaxObjectiveValue2() {
-		return maxObjectiveValue2;
-	}
+			for (int objective = 1; objective <= totalObjectives; objective++) {
+				plan[objective - 1] = getObjective(objective);
+			}
 
-	public Double getMinObjectiveValue2() {
-		return minObjectiveValue2;
-	}
+			objectivePlan = plan;
+		}
 
-	public Double getMaxObjectiveValue3() {
-		return maxObjectiveValue3;
+		return objectivePlan;
 	}
 
-	public Double getMinObjectiveValue3() {
-		return minObjectiveValue3;
+	public Double getWeight(int position) {
+		return weights[getIndexOfPosition(position)];
 	}
 
-	public Double getMaxObjectiveValue4() {
-		return maxObjectiveValue4;
+	public Double getMaxObjectiveValue(int position) {
+		return maxObjectiveValues[getIndexOfPosition(position)];
 	}
 
-	public Double getMinObjectiveValue4() {
-		return minObjectiveValue4;
+	public Double getMinObjectiveValue(int position) {
+		return minObjectiveValues[getIndexOfPosition(position)];
 	}
 
-	public Double getMaxObjectiveValue5() {
-		return maxObjectiveValue5;
+	public Double getRealMaxObjectiveValue(int position) {
+		return realMaxObjectiveValues[getIndexOfPosition(position)];
 	}
 
-	public Double getMinObjectiveValue5() {
-		return minObjectiveValue5;
+	public Double getRealMinObjectiveValue(int position) {
+		return realMinObjectiveValues[getIndexOfPosition(position)];
 	}
 
-    public Double getRealMaxObjectiveValue1() {
-        return realMaxObjectiveValue1;
-    }
-
-    public Double getRealMinObjectiveValue1() {
-        return realMinObjectiveValue1;
-    }
-
-    public Double getRealMaxObjectiveValue2() {
-        return realMaxObjectiveValue2;
-    }
-
-    public Double getRealMinObjectiveValue2() {
-        return realMinObjectiveValue2;
-    }
-
-    public Double getRealMaxObjectiveValue3() {
-        return realMaxObjectiveValue3;
-    }
-
-    public Double getRealMinObjectiveValue3() {
-        return realMinObjectiveValue3;
-    }
-
-    public Double getRealMaxObjectiveValue4() {
-        return realMaxObjectiveValue4;
-    }
-
-    public Double getRealMinObjectiveValue4() {
-        return realMinObjectiveValue4;
-    }
-
-    public Double getRealMaxObjectiveValue5() {
-        return realMaxObjectiveValue5;
-    }
-
-    public Double getRealMinObjectiveValue5() {
-        return realMinObjectiveValue5;
-    }
-
 	public Boolean isGenerateCsvFile() {
 		return generateCsvFile;
 	}
@@ -590,6 +533,14 @@ public class Configuration {
 		this.taskGraphFileName = taskGraphFileName;
 	}
 
+	public void setProcessorSpeedFactors(String processorSpeedFactors) {
+		this.processorSpeedFactors = processorSpeedFactors;
+	}
+
+	public void setExecutionTimeFileName(String executionTimeFileName) {
+		this.executionTimeFileName = executionTimeFileName;
+	}
+
 	public void setGraphWithCommunicationCost(Boolean graphWithCommunicationCost) {
 		this.graphWithCommunicationCost = graphWithCommunicationCost;
 	}
@@ -622,12 +573,49 @@ public class Configuration {
         this.printHiperVolumeInConsole = printHiperVolumeInConsole;
     }
 
+    public void setIncrementalEvaluation(Boolean incrementalEvaluation) {
+        this.incrementalEvaluation = incrementalEvaluation;
+    }
+
+    public void setFitnessCacheSize(Integer fitnessCacheSize) {
+        this.fitnessCacheSize = fitnessCacheSize;
+    }
+
+    public void setDecoder(Integer decoder) {
+        this.decoder = decoder;
+        setDecoderType(this.decoder);
+    }
+
+    private void setDecoderType(Integer decoder) {
+        switch (decoder) {
+        case 0:
+            decoderType = DecoderType.APPEND;
+            break;
+
+        case 1:
+            decoderType = DecoderType.INSERTION;
+            break;
+
+        case 2:
+            decoderType = DecoderType.DUPLICATION;
+            break;
+
+        default:
+            throw new IllegalArgumentException("Invalid value of decoder: " + decoder + ". Valid values: " + Arrays.asList(0, 1, 2).toString());
+        }
+    }
+
+    public void setEvaluationLanes(Integer evaluationLanes) {
+        this.evaluationLanes = evaluationLanes;
+    }
+
     public void setExecuteMultiObjectiveGA(Boolean executeMultiObjectiveGA) {
 		this.executeMultiObjectiveGA = executeMultiObjectiveGA;
 	}
 
 	public void setTotalObjectives(Integer totalObjectives) {
 		this.totalObjectives = totalObjectives;
+		this.objectivePlan = null;
 	}
 
 	public void setSizeOfTables(Integer sizeOfTables) {
@@ -683,134 +671,107 @@ public class Configuration {
 	}
 
 	public void setObjective1(Integer objective1) {
-		this.objective1 = objective1;
+		setObjective(1, objective1);
 	}
 
 	public void setObjective2(Integer objective2) {
-		this.objective2 = objective2;
+		setObjective(2, objective2);
 	}
 
 	public void setObjective3(Integer objective3) {
-		this.objective3 = objective3;
+		setObjective(3, objective3);
 	}
 
 	public void setObjective4(Integer objective4) {
-		this.objective4 = objective4;
+		setObjective(4, objective4);
 	}
 
 	public void setObjective5(Integer objective5) {
-		this.objective5 = objective5;
+		setObjective(5, objective5);
 	}
 
 	public void setWeight1(Double weight1) {
-		this.weight1 = weight1;
+		weights[getIndexOfPosition(1)] = weight1;
 	}
 
 	public void setWeight2(Double weight2) {
-		this.weight2 = weight2;
+		weights[getIndexOfPosition(2)] = weight2;
 	}
 
 	public void setWeight3(Double weight3) {
-		this.weight3 = weight3;
+		weights[getIndexOfPosition(3)] = weight3;
 	}
 
 	public void setWeight4(Double weight4) {
-		this.weight4 = weight4;
+		weights[getIndexOfPosition(4)] = weight4;
 	}
 
 	public void setWeight5(Double weight5) {
-		this.weight5 = weight5;
+		weights[getIndexOfPosition(5)] = weight5;
 	}
 
 	public void setMaxObjectiveValue1(Double maxObjectiveValue1) {
-		this.maxObjectiveValue1 = getTransformedObjectiveValue(maxObjectiveValue1);
-		setRealMaxObjectiveValue1(maxObjectiveValue1);
+		setMaxObjectiveValue(1, maxObjectiveValue1);
 	}
 
-    public void setMinObjectiveValue1(Double minObjectiveValue1) {
-		this.minObjectiveValue1 = getTransformedObjectiveValue(minObjectiveValue1);
-		setRealMinObjectiveValue1(minObjectiveValue1);
+	public void setMinObjectiveValue1(Double minObjectiveValue1) {
+		setMinObjectiveValue(1, minObjectiveValue1);
 	}
 
 	public void setMaxObjectiveValue2(Double maxObjectiveValue2) {
-		this.maxObjectiveValue2 = getTransformedObjectiveValue(maxObjectiveValue2);
-		setRealMaxObjectiveValue2(maxObjectiveValue2);
+		setMaxObjectiveValue(2, maxObjectiveValue2);
 	}
 
 	public void setMinObjectiveValue2(Double minObjectiveValue2) {
-		this.minObjectiveValue2 = getTransformedObjectiveValue(minObjectiveValue2);
-		setRealMinObjectiveValue2(minObjectiveValue2);
+		setMinObjectiveValue(2, minObjectiveValue2);
 	}
 
 	public void setMaxObjectiveValue3(Double maxObjectiveValue3) {
-		this.maxObjectiveValue3 = getTransformedObjectiveValue(maxObjectiveValue3);
-		setRealMaxObjectiveValue3(maxObjectiveValue3);
+		setMaxObjectiveValue(3, maxObjectiveValue3);
 	}
 
 	public void setMinObjectiveValue3(Double minObjectiveValue3) {
-		this.minObjectiveValue3 = getTransformedObjectiveValue(minObjectiveValue3);
-		setRealMinObjectiveValue3(minObjectiveValue3);
+		setMinObjectiveValue(3, minObjectiveValue3);
 	}
 
 	public void setMaxObjectiveValue4(Double maxObjectiveValue4) {
-		this.maxObjectiveValue4 = getTransformedObjectiveValue(maxObjectiveValue4);
-		setRealMaxObjectiveValue4(maxObjectiveValue4);
+		setMaxObjectiveValue(4, maxObjectiveValue4);
 	}
 
 	public void setMinObjectiveValue4(Double minObjectiveValue4) {
-		this.minObjectiveValue4 = getTransformedObjectiveValue(minObjectiveValue4);
-		setRealMinObjectiveValue4(minObjectiveValue4);
+		setMinObjectiveValue(4, minObjectiveValue4);
 	}
 
 	public void setMaxObjectiveValue5(Double maxObjectiveValue5) {
-		this.maxObjectiveValue5 = getTransformedObjectiveValue(maxObjectiveValue5);
-		setRealMaxObjectiveValue5(maxObjectiveValue5);
+		setMaxObjectiveValue(5, maxObjectiveValue5);
 	}
 
 	public void setMinObjectiveValue5(Double minObjectiveValue5) {
-		this.minObjectiveValue5 = getTransformedObjectiveValue(minObjectiveValue5);
-		setRealMinObjectiveValue5(minObjectiveValue5);
+		setMinObjectiveValue(5, minObjectiveValue5);
 	}
 
-    private void setRealMaxObjectiveValue1(Double realMaxObjectiveValue1) {
-        this.realMaxObjectiveValue1 = realMaxObjectiveValue1;
-    }
-
-    private void setRealMinObjectiveValue1(Double realMinObjectiveValue1) {
-        this.realMinObjectiveValue1 = realMinObjectiveValue1;
-    }
-
-    private void setRealMaxObjectiveValue2(Double realMaxObjectiveValue2) {
-        this.realMaxObjectiveValue2 = realMaxObjectiveValue2;
-    }
-
-    private void setRealMinObjectiveValue2(Double realMinObjectiveValue2) {
-        this.realMinObjectiveValue2 = realMinObjectiveValue2;
-    }
-
-    private void setRealMaxObjectiveValue3(Double realMaxObjectiveValue3) {
-        this.realMaxObjectiveValue3 = realMaxObjectiveValue3;
-    }
-
-    private void setRealMinObjectiveValue3(Double realMinObjectiveValue3) {
-        this.realMinObjectiveValue3 = realMinObjectiveValue3;
-    }
+	private void setObjective(int position, Integer objective) {
+		objectives[getIndexOfPosition(position)] = objective;
+		this.objectivePlan = null;
+	}
 
-    private void setRealMaxObjectiveValue4(Double realMaxObjectiveValue4) {
-        this.realMaxObjectiveValue4 = realMaxObjectiveValue4;
-    }
+	private void setMaxObjectiveValue(int position, Double maxObjectiveValue) {
+		maxObjectiveValues[getIndexOfPosition(position)] = getTransformedObjectiveValue(maxObjectiveValue);
+		realMaxObjectiveValues[getIndexOfPosition(position)] = maxObjectiveValue;
+	}
 
-    private void setRealMinObjectiveValue4(Double realMinObjectiveValue4) {
-        this.realMinObjectiveValue4 = realMinObjectiveValue4;
-    }
+	private void setMinObjectiveValue(int position, Double minObjectiveValue) {
+		minObjectiveValues[getIndexOfPosition(position)] = getTransformedObjectiveValue(minObjectiveValue);
+		realMinObjectiveValues[getIndexOfPosition(position)] = minObjectiveValue;
+	}
 
-    private void setRealMaxObjectiveValue5(Double realMaxObjectiveValue5) {
-        this.realMaxObjectiveValue5 = realMaxObjectiveValue5;
-    }
+	private int getIndexOfPosition(int position) {
+		if (position < 1 || position > objectives.length) {
+			throw new IllegalArgumentException("Objective invalid. Value: " + position + ".");
+		}
 
-    private void setRealMinObjectiveValue5(Double realMinObjectiveValue5) {
-        this.realMinObjectiveValue5 = realMinObjectiveValue5;
-    }
+		return position - 1;
+	}
 
 	public void setGenerateCsvFile(Boolean generateCsvFile) {
 		this.generateCsvFile = generateCsvFile;
@@ -922,25 +883,11 @@ public class Configuration {
     }
 
 	private void invertMaximumAndMinimumObjectiveValues() {
-		double aux = maxObjectiveValue1;
-		this.maxObjectiveValue1 = minObjectiveValue1;
-		this.minObjectiveValue1 = aux;
-
-		aux = maxObjectiveValue2;
-		this.maxObjectiveValue2 = minObjectiveValue2;
-		this.minObjectiveValue2 = aux;
-
-		aux = maxObjectiveValue3;
-		this.maxObjectiveValue3 = minObjectiveValue3;
-		this.minObjectiveValue3 = aux;
-
-		aux = maxObjectiveValue4;
-		this.maxObjectiveValue4 = minObjectiveValue4;
-		this.minObjectiveValue4 = aux;
-
-		aux = maxObjectiveValue5;
-		this.maxObjectiveValue5 = minObjectiveValue5;
-		this.minObjectiveValue5 = aux;
+		for (int index = 0; index < maxObjectiveValues.length; index++) {
+			Double aux = maxObjectiveValues[index];
+			maxObjectiveValues[index] = minObjectiveValues[index];
+			minObjectiveValues[index] = aux;
+		}
 	}
 
 	private String getMethodName(String fieldName) {
@@ -4,6 +4,7 @@ import java.io.File;
 
 public class Constants {
     public final static String USE_DEFAULT_GRAPH = "-1";
+    public final static String IDENTICAL_PROCESSORS = "-1";
     public final static String READ_ME_FILE_NAME = "README.conf";
     public final static String NORMALIZATION_BASE_FILE_NAME = "DAGBase-normalization.txt";
     public final static String SUFIX_NORMLIZATION_FILE_NAME = "-normalization";
@@ -44,6 +45,9 @@ public class Constants {
     public static final int COMMUNICATION_COST = 3;
     public static final int WAITING_TIME = 4;
 
+    //The load balance is kept as a long with nine decimal places
+    public static final long LOAD_BALANCE_SCALE = 1000000000L;
+
     public static final int SOLUTION_RANGE = 10;
     public static final int RANGE_90_100 = 0;
     public static final int RANGE_80_90 = 1;
@@ -5,17 +5,34 @@ import java.util.List;
 import java.util.Random;
 
 import com.br.ufu.scheduling.enums.CrossoverType;
+import com.br.ufu.scheduling.model.BatchEvaluator;
 import com.br.ufu.scheduling.model.Chromosome;
 import com.br.ufu.scheduling.model.Graph;
+import com.br.ufu.scheduling.model.VectorArena;
 
 public class Crossover {
+	//Without an arena, each child has a block of its own for its vectors
 	public static List<Chromosome> getCrossover(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config) throws Exception {
+		return getCrossover(parent1, parent2, graph, generator, config, null);
+	}
+
+	//The children are created in the arena of the population
+	public static List<Chromosome> getCrossover(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config, VectorArena arena) throws Exception {
+		return evaluate(getCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config, arena), graph, config);
+	}
+
+	public static List<Chromosome> getCrossoverWithoutEvaluation(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config) {
+		return getCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config, null);
+	}
+
+	//The children are not evaluated, so a whole generation of children can be evaluated together (BatchEvaluator)
+	public static List<Chromosome> getCrossoverWithoutEvaluation(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config, VectorArena arena) {
 		switch (solveCrossoverType(generator)) {
 		case CROSSOVER_MAP:
-			return getCrossoverMap(parent1, parent2, graph, generator, config);
+			return getCrossoverMapWithoutEvaluation(parent1, parent2, graph, generator, config, arena);
 
 		case ORDER_CROSSOVER:
-			return getOrderCrossover(parent1, parent2, graph, generator, config);
+			return getOrderCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config, arena);
 
 		default:
 			throw new IllegalArgumentException("Crossover type not implemented.");
@@ -27,6 +44,14 @@ public class Crossover {
 	}
 
 	public static List<Chromosome> getCrossoverMap(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config) throws Exception {
+		return evaluate(getCrossoverMapWithoutEvaluation(parent1, parent2, graph, generator, config, null), graph, config);
+	}
+
+	public static List<Chromosome> getCrossoverMapWithoutEvaluation(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config) {
+		return getCrossoverMapWithoutEvaluation(parent1, parent2, graph, generator, config, null);
+	}
+
+	public static List<Chromosome> getCrossoverMapWithoutEvaluation(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config, VectorArena arena) {
 		List<Chromosome> childrenList = new ArrayList<>();
 		
 		//Add 1 to generate values between 1 and the total of tasks (inclusive)
@@ -36,42 +61,39 @@ public class Crossover {
 			System.out.println("CutPoint: " + cutPoint);
 		}
 
-		int [] mappingChild1 = new int[graph.getNumberOfVertices()];
-		int [] schedulingChild1 = new int[graph.getNumberOfVertices()];
+		int numberOfVertices = graph.getNumberOfVertices();
 
-		int [] mappingChild2 = new int[graph.getNumberOfVertices()];
-		int [] schedulingChild2 = new int[graph.getNumberOfVertices()];
+		//Each child keeps the scheduling vector and the first part of the mapping vector of a parent, so its evaluation starts from where it differs from this parent
+		Chromosome children1 = new Chromosome(arena, parent1);
+		Chromosome children2 = new Chromosome(arena, parent2);
 
-		for (int index = 0; index < cutPoint; index++) {
-			//The first part of the children's cutpoint is copied from the parents
-			mappingChild1[index] = parent1.getMapping()[index];
-			mappingChild2[index] = parent2.getMapping()[index];
+		//The first part of the children's cutpoint is copied from the parents
+		children1.copyMappingFrom(parent1, 0, cutPoint);
+		children2.copyMappingFrom(parent2, 0, cutPoint);
 
-			//In the scheduling vector there is no change, so we just do the copy
-			schedulingChild1[index] = parent1.getScheduling()[index];
-			schedulingChild2[index] = parent2.getScheduling()[index];
-		}
+		//The second part of the children's cutpoint is copied from the parents in reverse: child 1 receives parent 2 data and child 2 receives parent 1 data
+		children1.copyMappingFrom(parent2, cutPoint, numberOfVertices);
+		children2.copyMappingFrom(parent1, cutPoint, numberOfVertices);
 
-		for (int index = cutPoint; index < graph.getNumberOfVertices(); index++) {
-			//The second part of the children's cutpoint is copied from the parents in reverse: child 1 receives parent 2 data and child 2 receives parent 1 data
-			mappingChild1[index] = parent2.getMapping()[index];
-			mappingChild2[index] = parent1.getMapping()[index];
+		//In the scheduling vector there is no change, so we just do the copy
+		children1.copySchedulingFrom(parent1, 0, numberOfVertices);
+		children2.copySchedulingFrom(parent2, 0, numberOfVertices);
 
-			//In the scheduling vector there is no change, so we just do the copy
-			schedulingChild1[index] = parent1.getScheduling()[index];
-			schedulingChild2[index] = parent2.getScheduling()[index];
-		}
-
-		Chromosome children1 = new Chromosome(mappingChild1, schedulingChild1, graph, config);
 		childrenList.add(children1);
-
-		Chromosome children2 = new Chromosome(mappingChild2, schedulingChild2, graph, config);
 		childrenList.add(children2);
 
 		return childrenList;
 	}
 
 	public static List<Chromosome> getOrderCrossover(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config) throws Exception {
+		return evaluate(getOrderCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config, null), graph, config);
+	}
+
+	public static List<Chromosome> getOrderCrossoverWithoutEvaluation(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config) {
+		return getOrderCrossoverWithoutEvaluation(parent1, parent2, graph, generator, config, null);
+	}
+
+	public static List<Chromosome> getOrderCrossoverWithoutEvaluation(Chromosome parent1, Chromosome parent2, Graph graph, Random generator, Configuration config, VectorArena arena) {
 		List<Chromosome> childrenList = new ArrayList<>();
 		
 		//Add 1 to generate values between 1 and the total of tasks (inclusive)
@@ -81,42 +103,45 @@ public class Crossover {
 			System.out.println("CutPoint: " + cutPoint);
 		}
 
-		int [] mappingChild = new int[graph.getNumberOfVertices()];
-		int [] schedulingChild = new int[graph.getNumberOfVertices()];
+		int numberOfVertices = graph.getNumberOfVertices();
 
-		List<Integer> taskAlreadyInserted = new ArrayList<>();
+		//The child keeps the mapping vector and the first part of the scheduling vector of parent 1, so its evaluation starts from where it differs from this parent
+		Chromosome children = new Chromosome(arena, parent1);
 
-		for (int index = 0; index < cutPoint; index++) {
-			//Child mapping vector is copied all from parent 1
-			mappingChild[index] = parent1.getMapping()[index];
+		//Child mapping vector is a copy of the one of parent 1
+		children.copyMappingFrom(parent1, 0, numberOfVertices);
+
+		//Indexed by task, which starts at 1
+		boolean[] taskAlreadyInserted = new boolean[numberOfVertices + 1];
+
+		//The first part of the child's cutpoint is copied from the parent 1
+		children.copySchedulingFrom(parent1, 0, cutPoint);
 
-			//The first part of the child's cutpoint is copied from the parent 1
-			int task = parent1.getScheduling()[index];
-			schedulingChild[index] = task;
-			taskAlreadyInserted.add(task);
+		for (int index = 0; index < cutPoint; index++) {
+			taskAlreadyInserted[parent1.getTask(index)] = true;
 		}
 
 		//This index is an auxiliary variable to insert the scheduling vector in the same loop as we traverse the data of parent 2, optimizing the process
 		int indexInsertionVectorScheduling = cutPoint;
-		for (int index = 0; index < graph.getNumberOfVertices(); index++) {
-			if (index >= cutPoint) {
-				//Copying the part of the mapping vector from parent 1 after the cut point
-				mappingChild[index] = parent1.getMapping()[index];
-			}
-
+		for (int index = 0; index < numberOfVertices; index++) {
 			//The second part of the child's cutpoint is copied from parent 2 in the order in which the tasks appear
-			int task = parent2.getScheduling()[index];
+			int task = parent2.getTask(index);
 
-			if (!taskAlreadyInserted.contains(task)) {
-				schedulingChild[indexInsertionVectorScheduling] = task;
-				taskAlreadyInserted.add(task);
+			if (!taskAlreadyInserted[task]) {
+				children.setTask(indexInsertionVectorScheduling, task);
+				taskAlreadyInserted[task] = true;
 				indexInsertionVectorScheduling++;
 			}
 		}
 
-		Chromosome children = new Chromosome(mappingChild, schedulingChild, graph, config);
 		childrenList.add(children);
 
 		return childrenList;
 	}
+
+	private static List<Chromosome> evaluate(List<Chromosome> childrenList, Graph graph, Configuration config) throws Exception {
+		BatchEvaluator.evaluate(childrenList, graph, config);
+
+		return childrenList;
+	}
 }
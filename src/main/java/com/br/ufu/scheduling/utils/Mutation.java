@@ -1,28 +1,27 @@
 package com.br.ufu.scheduling.utils;
 
-import java.util.Arrays;
 import java.util.Random;
 
 public class Mutation {
-	public static int[] applyMutation(Random generator, int[] orginalMapping, Configuration config) {
+	//Changes the mapping vector in the positions [offset, offset + length) of the block, like the mapping of a chromosome in its VectorArena
+	public static void applyMutation(Random generator, int[] vectors, int offset, int length, Configuration config) {
 		switch (config.getMutationType()) {
 		case ONE_POINT:
-			return applyOnePointMutation(generator, orginalMapping, config.getTotalProcessors());
+			applyOnePointMutation(generator, vectors, offset, length, config.getTotalProcessors());
+			break;
 
 		case TWO_POINTS:
-			return applyTwoPointsMutation(generator, orginalMapping, config.getTotalProcessors());
+			applyTwoPointsMutation(generator, vectors, offset, length, config.getTotalProcessors());
+			break;
 
 		default:
 			throw new IllegalArgumentException("Crossover type not implemented.");
 		}
 	}
 
-	private static int[] applyOnePointMutation(Random generator, int[] orginalMapping, int totalProcessors) {
-		int[] newMapping = new int[orginalMapping.length];
-		newMapping = Arrays.copyOf(orginalMapping, orginalMapping.length);
-
-		int indexRaffled = generator.nextInt(orginalMapping.length);
-		int processor = orginalMapping[indexRaffled];
+	private static void applyOnePointMutation(Random generator, int[] mapping, int offset, int length, int totalProcessors) {
+		int indexRaffled = offset + generator.nextInt(length);
+		int processor = mapping[indexRaffled];
 
 		int processorForChange = 0;
 
@@ -31,44 +30,37 @@ public class Mutation {
 			processorForChange = generator.nextInt(totalProcessors) + 1;
 		} while (processor == processorForChange);
 
-		newMapping[indexRaffled] = processorForChange;
-
-		return newMapping;
+		mapping[indexRaffled] = processorForChange;
 	}
 	
-	private static int[] applyTwoPointsMutation(Random generator, int[] orginalMapping, int totalProcessors) {
-		int[] newMapping = new int[orginalMapping.length];
-		newMapping = Arrays.copyOf(orginalMapping, orginalMapping.length);
-
-		int indexRaffled1 = generator.nextInt(orginalMapping.length);
+	private static void applyTwoPointsMutation(Random generator, int[] mapping, int offset, int length, int totalProcessors) {
+		int indexRaffled1 = offset + generator.nextInt(length);
 		int indexRaffled2 = 0;
 		
 		do {
-			indexRaffled2 = generator.nextInt(orginalMapping.length);
+			indexRaffled2 = offset + generator.nextInt(length);
 		} while (indexRaffled1 == indexRaffled2); //It's not permited raffle the same index twice
 		
 		//If the processors of the two raffled positions are different, I switch one for the other. 
 		//If they are the same, I choose one of them at random and rafflew a new processor for the selected position.
-		if (newMapping[indexRaffled1] != newMapping[indexRaffled2]) {
-			int auxiliaryVariable = newMapping[indexRaffled1];
+		if (mapping[indexRaffled1] != mapping[indexRaffled2]) {
+			int auxiliaryVariable = mapping[indexRaffled1];
 
-			newMapping[indexRaffled1] = newMapping[indexRaffled2];
-			newMapping[indexRaffled2] = auxiliaryVariable;
+			mapping[indexRaffled1] = mapping[indexRaffled2];
+			mapping[indexRaffled2] = auxiliaryVariable;
 		} else {
 			int indexMaintained = getIndexMaintained(generator, indexRaffled1, indexRaffled2);
 			int newRaffledIndex = 0;
 
 			do {
-				newRaffledIndex = generator.nextInt(orginalMapping.length);
-			} while (newMapping[indexMaintained] == newMapping[newRaffledIndex]);
+				newRaffledIndex = offset + generator.nextInt(length);
+			} while (mapping[indexMaintained] == mapping[newRaffledIndex]);
 
-			int auxiliaryVariable = newMapping[indexMaintained];
+			int auxiliaryVariable = mapping[indexMaintained];
 
-			newMapping[indexMaintained] = newMapping[newRaffledIndex];
-			newMapping[newRaffledIndex] = auxiliaryVariable;
+			mapping[indexMaintained] = mapping[newRaffledIndex];
+			mapping[newRaffledIndex] = auxiliaryVariable;
 		}
-
-		return newMapping;
 	}
 
 	private static int getIndexMaintained(Random generator, int indexRaffled1, int indexRaffled2) {
@@ -12,7 +12,9 @@ import com.br.ufu.scheduling.model.AGMOResultModel;
 import com.br.ufu.scheduling.model.Chromosome;
 import com.br.ufu.scheduling.model.DataForSpreadsheet;
 import com.br.ufu.scheduling.model.FinalResultModel;
+import com.br.ufu.scheduling.model.FitnessCache;
 import com.br.ufu.scheduling.model.ObjectiveDataForSpreadsheet;
+import com.br.ufu.scheduling.model.TaskCopies;
 
 public class Printer {
 	public static void printExecutionOrder(int[] startTimeTask, int[] finalTimeTask, int[] readinessTime, int task, Integer totalProcessors) throws Exception {
@@ -49,11 +51,33 @@ public class Printer {
         Utils.print(getObjectivesFromChromosomeFormatted(config, chromosome, printFitness, algorithmType), finalResultWriter);
     }
 
+	public static void printBetterChromosomeFound(Chromosome chromosome) {
+		System.out.println("Better Chromosome Found:");
+		printChromosomeVectors(chromosome.copyMapping(), chromosome.copyScheduling());
+	}
+
 	public static void printChromosomeVectors(int[] mapping, int[] scheduling) {
 		System.out.println("Mapping (Processors) : " + getFormattedVector(mapping));
 		System.out.println("Scheduling (Tasks) : " + getFormattedVector(scheduling));
 	}
 
+	private static String getFormattedTaskCopies(TaskCopies taskCopies) {
+		StringBuilder sbFormattedTaskCopies = new StringBuilder();
+		sbFormattedTaskCopies.append("[ ");
+
+		for (int copy = 0; copy < taskCopies.getTotalCopies(); copy++) {
+			sbFormattedTaskCopies.append(taskCopies.getTask(copy) + " -> " + taskCopies.getProcessor(copy));
+
+			if (copy != taskCopies.getTotalCopies() - 1) {
+				sbFormattedTaskCopies.append(", ");
+			}
+		}
+
+		sbFormattedTaskCopies.append(" ]");
+
+		return sbFormattedTaskCopies.toString();
+	}
+
 	private static String getFormattedVector(int[] vector) {
 		StringBuilder sbFormattedVector = new StringBuilder();
 		sbFormattedVector.append("[ ");
@@ -246,8 +270,12 @@ public class Printer {
 	private static String getObjectivesFromChromosomeFormatted(Configuration config, Chromosome chromosome, boolean showFitness, AlgorithmType algorithmType) {
 		StringBuilder builder = new StringBuilder();
 
-		append(builder, "Mapping (Processors) : " + getFormattedVector(chromosome.getMapping()));
-		append(builder, "Scheduling (Tasks) : " + getFormattedVector(chromosome.getScheduling()));
+		append(builder, "Mapping (Processors) : " + getFormattedVector(chromosome.copyMapping()));
+		append(builder, "Scheduling (Tasks) : " + getFormattedVector(chromosome.copyScheduling()));
+
+		if (chromosome.getTaskCopies().getTotalCopies() > 0) {
+			append(builder, "Copies (Task -> Processor) : " + getFormattedTaskCopies(chromosome.getTaskCopies()));
+		}
 
 		for (int objective = 1; objective <= config.getTotalObjectives(); objective++) {
 		    appendObjective(config, chromosome, builder, objective);
@@ -292,6 +320,10 @@ public class Printer {
 		append(builder, "Total Chromosomes Non-Dominated: " + totalChromosomes + ".");
 		append(builder, "Runtime for " + config.getTotalGenerations() + " generations: " + runtime + " segundos.\n");
 
+		if (config.getFitnessCacheSize() > 0) {
+			append(builder, "Fitness cache: " + FitnessCache.getInstance().getHits() + " hits and " + FitnessCache.getInstance().getMisses() + " misses.\n");
+		}
+
 		return builder.toString();
 	}
 
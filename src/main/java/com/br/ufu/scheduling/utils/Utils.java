@@ -3,6 +3,7 @@ package com.br.ufu.scheduling.utils;
 import java.io.BufferedWriter;
 
 import com.br.ufu.scheduling.enums.AlgorithmType;
+import com.br.ufu.scheduling.enums.MetricType;
 import com.br.ufu.scheduling.enums.SortFunctionType;
 
 public class Utils {
@@ -99,65 +100,11 @@ public class Utils {
     }
 
     public static String getObjectiveName(Integer objectiveIndex) {
-        String objectiveName = "";
-
-        switch (objectiveIndex) {
-            case Constants.MAKESPAN:
-                objectiveName = "SLength";
-                break;
-
-            case Constants.LOAD_BALANCE:
-                objectiveName = "LoadBalance";
-                break;
-
-            case Constants.FLOW_TIME:
-                objectiveName = "FlowTime";
-                break;
-
-            case Constants.COMMUNICATION_COST:
-                objectiveName = "CommunicationCost";
-                break;
-
-            case Constants.WAITING_TIME:
-                objectiveName = "WaitingTime";
-                break;
-
-            default:
-                throw new IllegalArgumentException("Type of objective invalid. Value: " + objectiveIndex + ".");
-        }
-
-        return objectiveName;
+        return MetricType.getMetricType(objectiveIndex).getObjectiveName();
     }
 
     public static Integer getActualObjectiveIndex(Configuration config, Integer objectiveIndex) {
-        Integer actualObjectiveIndex = 0;
-
-        switch (objectiveIndex) {
-            case 1:
-                actualObjectiveIndex = config.getObjective1();
-                break;
-
-            case 2:
-                actualObjectiveIndex = config.getObjective2();
-                break;
-
-            case 3:
-                actualObjectiveIndex = config.getObjective3();
-                break;
-
-            case 4:
-                actualObjectiveIndex = config.getObjective4();
-                break;
-
-            case 5:
-                actualObjectiveIndex = config.getObjective5();
-                break;
-
-            default:
-                throw new IllegalArgumentException("Objective invalid. Value: " + objectiveIndex + ".");
-        }
-
-        return actualObjectiveIndex;
+        return config.getObjective(objectiveIndex);
     }
 
     public static void print(String message) throws Exception {